@@ -0,0 +1,36 @@
+package inventory.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada del JAR de benchmarks
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Acepta las mismas opciones que org.openjdk.jmh.Main (-p, -f, -i, filtros...)
+ * 2. Añade siempre el perfilador de GC, de modo que cada resultado incluye la
+ *    tasa de asignación (gc.alloc.rate.norm = bytes por operación) junto a ops/s
+ *
+ * Uso: java -jar benchmarks.jar [opciones JMH]
+ *      java -jar benchmarks.jar SearchBenchmark -p n=1000000 -p distribution=ZIPFIAN
+ *
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,22 @@
+package inventory.bench;
+
+/**
+ * Forma de construir el inventario antes de medir búsquedas o recorridos
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Es un parámetro explícito ("-p build=..."): la forma del árbol depende
+ *    de cómo se construyó, y un mismo benchmark no debe mezclar motores
+ *    construidos de formas distintas
+ * 2. INCREMENTAL: todos los motores insertan los códigos uno a uno, en el
+ *    orden de carga de la distribución; es la construcción común a todos
+ * 3. BULK: cada motor con su mejor carga. El AVL usa bulkLoad (árbol
+ *    perfectamente equilibrado en O(n) tras ordenar); los demás no tienen
+ *    carga masiva e insertan los códigos ordenados y sin duplicados, que es
+ *    su caso más favorable (p. ej. las particiones por la derecha del B+)
+ *
+ */
+public enum BuildMode {
+    INCREMENTAL,
+    BULK
+}
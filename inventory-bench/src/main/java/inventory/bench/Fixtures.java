@@ -0,0 +1,42 @@
+package inventory.bench;
+
+import inventory.InventoryIndex;
+import inventory.InventorySystem;
+
+import java.util.Arrays;
+
+/**
+ * Utilidades compartidas por los benchmarks
+ */
+final class Fixtures {
+
+    /** Semilla fija: cada ejecución mide exactamente los mismos datos */
+    static final long SEED = 42;
+
+    /**
+     * Consultas precalculadas por benchmark
+     * DECISIÓN: Potencia de 2 para recorrerlas con una máscara; 1M consultas
+     * (4 MiB) no caben en L1/L2, así que no se miden siempre los mismos caminos
+     */
+    static final int QUERY_COUNT = 1 << 20;
+    static final int QUERY_MASK = QUERY_COUNT - 1;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Crea un inventario con el motor indicado y carga los códigos (ver BuildMode)
+     */
+    static InventoryIndex load(InventoryIndex.Engine engine, BuildMode build, int[] codes) {
+        InventoryIndex index = InventoryIndex.create(engine);
+        if (build == BuildMode.BULK && index instanceof InventorySystem) {
+            ((InventorySystem) index).bulkLoad(codes);
+            return index;
+        }
+        int[] loadOrder = (build == BuildMode.BULK) ? Arrays.stream(codes).sorted().distinct().toArray() : codes;
+        for (int code : loadOrder) {
+            index.insert(code);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,82 @@
+package inventory.bench;
+
+import inventory.InventoryIndex;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Altas: construcción de un inventario de n códigos desde cero
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Cada operación construye un inventario completo: así el árbol pasa por
+ *    todos los tamaños hasta n, y no crece sin control dentro de la iteración
+ *    como ocurriría insertando códigos nuevos en un inventario fijo
+ * 2. El contador auxiliar "inserts" convierte el resultado en altas por
+ *    segundo, que es la cifra comparable entre tamaños
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class InsertBenchmark {
+
+    @Param({"AVL", "POOLED_AVL", "RED_BLACK", "SKIP_LIST", "B_PLUS_TREE"})
+    public InventoryIndex.Engine engine;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int n;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN", "CLUSTERED"})
+    public KeyDistribution distribution;
+
+    private int[] insertions;
+
+    /**
+     * Altas realizadas en la iteración (JMH la informa como ops/s)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long inserts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            inserts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Fixtures.SEED);
+        insertions = distribution.insertions(distribution.codes(n, random), random);
+    }
+
+    @Benchmark
+    public InventoryIndex insert(Counters counters) {
+        InventoryIndex index = InventoryIndex.create(engine);
+        for (int code : insertions) {
+            index.insert(code);
+        }
+        counters.inserts += insertions.length;
+        return index;
+    }
+}
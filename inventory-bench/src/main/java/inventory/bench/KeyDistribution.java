@@ -0,0 +1,109 @@
+package inventory.bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribuciones de códigos para los benchmarks
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Todos los códigos generados son pares, así que "código | 1" es siempre
+ *    un fallo garantizado para las búsquedas sin acierto
+ * 2. La distribución fija tanto qué códigos se cargan (y en qué orden) como
+ *    con qué frecuencia se consulta cada uno:
+ *    - SEQUENTIAL: 0, 2, 4, ... cargados y consultados en orden
+ *    - UNIFORM: códigos al azar, consultas uniformes
+ *    - ZIPFIAN: mismos códigos que UNIFORM, consultas y altas sesgadas con
+ *      Zipf (theta 0.99): unos pocos códigos concentran casi todo el tráfico
+ *    - CLUSTERED: grupos de códigos consecutivos en posiciones al azar; las
+ *      consultas recorren tramos cortos dentro de un grupo
+ * 3. Con códigos al azar puede haber repeticiones (~n^2 / 2^32), así que el
+ *    inventario cargado tiene aproximadamente n códigos
+ *
+ */
+public enum KeyDistribution {
+    SEQUENTIAL,
+    UNIFORM,
+    ZIPFIAN,
+    CLUSTERED;
+
+    /** Códigos consecutivos por grupo en CLUSTERED */
+    static final int CLUSTER_SIZE = 1024;
+
+    /** Consultas seguidas dentro de un mismo grupo en CLUSTERED */
+    static final int RUN_LENGTH = 16;
+
+    /**
+     * Códigos que forman el inventario, en su orden de carga
+     */
+    public int[] codes(int n, SplittableRandom random) {
+        int[] codes = new int[n];
+        switch (this) {
+            case SEQUENTIAL:
+                for (int i = 0; i < n; i++) {
+                    codes[i] = 2 * i;
+                }
+                break;
+            case CLUSTERED:
+                for (int start = 0; start < n; start += CLUSTER_SIZE) {
+                    int base = random.nextInt() & ~1;
+                    int end = Math.min(n, start + CLUSTER_SIZE);
+                    for (int i = start; i < end; i++) {
+                        codes[i] = base + 2 * (i - start);
+                    }
+                }
+                break;
+            default:
+                for (int i = 0; i < n; i++) {
+                    codes[i] = random.nextInt() & ~1;
+                }
+                break;
+        }
+        return codes;
+    }
+
+    /**
+     * Secuencia de altas a partir de los códigos del inventario
+     * DECISIÓN: En ZIPFIAN las altas repiten los códigos populares (altas de
+     * códigos ya existentes), como ocurre con las reposiciones reales
+     */
+    public int[] insertions(int[] codes, SplittableRandom random) {
+        return (this == ZIPFIAN) ? accesses(codes, codes.length, random) : codes;
+    }
+
+    /**
+     * Secuencia de "count" consultas con acierto sobre los códigos cargados
+     */
+    public int[] accesses(int[] codes, int count, SplittableRandom random) {
+        int n = codes.length;
+        int[] accesses = new int[count];
+        switch (this) {
+            case SEQUENTIAL:
+                for (int i = 0; i < count; i++) {
+                    accesses[i] = codes[i % n];
+                }
+                break;
+            case ZIPFIAN:
+                // Los códigos ya están en orden aleatorio: el rango 0 cae en cualquier parte
+                ZipfianGenerator zipf = new ZipfianGenerator(n);
+                for (int i = 0; i < count; i++) {
+                    accesses[i] = codes[(int) zipf.next(random)];
+                }
+                break;
+            case CLUSTERED:
+                for (int i = 0; i < count; ) {
+                    int start = random.nextInt(n);
+                    for (int j = 0; j < RUN_LENGTH && i < count; j++) {
+                        accesses[i++] = codes[(start + j) % n];
+                    }
+                }
+                break;
+            default:
+                for (int i = 0; i < count; i++) {
+                    accesses[i] = codes[random.nextInt(n)];
+                }
+                break;
+        }
+        return accesses;
+    }
+}
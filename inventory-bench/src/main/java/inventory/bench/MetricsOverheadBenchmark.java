@@ -0,0 +1,86 @@
+package inventory.bench;
+
+import inventory.InventoryIndex;
+import inventory.InventorySystem;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Coste de los contadores operativos del AVL (InventoryMetrics)
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Mismas búsquedas y altas con "metrics" a false (estado inicial, solo la
+ *    comprobación del campo) y a true; la referencia sin instrumentación es
+ *    ejecutar la misma prueba sobre un core anterior a las métricas
+ * 2. Tiempo medio por operación en ns, la cifra que se compara entre ambos
+ *    casos; las altas construyen un inventario nuevo por lote, como
+ *    InsertBenchmark, para que el árbol no crezca sin control
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MetricsOverheadBenchmark {
+
+    static final int INSERT_BATCH = 100_000;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    @Param("4194304")
+    public int n;
+
+    private InventorySystem inventory;
+    private int[] hits;
+    private int[] insertions;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Fixtures.SEED);
+        int[] codes = KeyDistribution.UNIFORM.codes(n, random);
+        inventory = (InventorySystem) Fixtures.load(InventoryIndex.Engine.AVL, BuildMode.INCREMENTAL, codes);
+        hits = KeyDistribution.UNIFORM.accesses(codes, Fixtures.QUERY_COUNT, random);
+        insertions = KeyDistribution.UNIFORM.codes(INSERT_BATCH, random);
+        if (metrics) {
+            inventory.enableMetrics();
+        }
+    }
+
+    @Benchmark
+    public boolean searchHit() {
+        return inventory.search(hits[cursor++ & Fixtures.QUERY_MASK]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_BATCH)
+    public InventorySystem insert() {
+        InventorySystem fresh = new InventorySystem();
+        if (metrics) {
+            fresh.enableMetrics();
+        }
+        for (int code : insertions) {
+            fresh.insert(code);
+        }
+        return fresh;
+    }
+}
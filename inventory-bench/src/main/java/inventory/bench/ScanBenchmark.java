@@ -0,0 +1,110 @@
+package inventory.bench;
+
+import inventory.CodeWriter;
+import inventory.InventoryIndex;
+import inventory.InventorySystem;
+
+import java.io.OutputStream;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recorridos completos: cada operación visita los n códigos
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. ascendingIterator para comparar motores a través de InventoryIndex
+ * 2. showAscending y showByLevels del AVL tal cual, escribiendo en un
+ *    CodeWriter sobre un destino nulo: se mide el recorrido más el formateo,
+ *    sin el coste del terminal
+ * 3. Todos los motores se construyen igual según "build" (ver BuildMode)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ScanBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int n;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN", "CLUSTERED"})
+    public KeyDistribution distribution;
+
+    @Param({"INCREMENTAL", "BULK"})
+    public BuildMode build;
+
+    /**
+     * Motor para el recorrido con iterador
+     */
+    @State(Scope.Benchmark)
+    public static class Engines {
+        @Param({"AVL", "POOLED_AVL", "RED_BLACK", "SKIP_LIST", "B_PLUS_TREE"})
+        public InventoryIndex.Engine engine;
+
+        InventoryIndex index;
+
+        @Setup(Level.Trial)
+        public void setUp(ScanBenchmark scan) {
+            index = Fixtures.load(engine, scan.build, scan.codes);
+        }
+    }
+
+    /**
+     * AVL para los recorridos que imprimen
+     */
+    @State(Scope.Benchmark)
+    public static class Avl {
+        InventorySystem inventory;
+        CodeWriter out;
+
+        @Setup(Level.Trial)
+        public void setUp(ScanBenchmark scan) {
+            inventory = (InventorySystem) Fixtures.load(InventoryIndex.Engine.AVL, scan.build, scan.codes);
+            out = new CodeWriter(OutputStream.nullOutputStream());
+        }
+    }
+
+    int[] codes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codes = distribution.codes(n, new SplittableRandom(Fixtures.SEED));
+    }
+
+    @Benchmark
+    public long iterateAscending(Engines engines) {
+        long sum = 0;
+        for (PrimitiveIterator.OfInt it = engines.index.ascendingIterator(); it.hasNext(); ) {
+            sum += it.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void showAscending(Avl avl) {
+        avl.inventory.showAscending(avl.out);
+    }
+
+    @Benchmark
+    public void showByLevels(Avl avl) {
+        avl.inventory.showByLevels(avl.out);
+    }
+}
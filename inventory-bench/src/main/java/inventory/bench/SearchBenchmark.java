@@ -0,0 +1,80 @@
+package inventory.bench;
+
+import inventory.InventoryIndex;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Búsquedas con acierto y sin acierto sobre un inventario de n códigos
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Inventario y consultas se preparan una vez por prueba; cada operación
+ *    es una sola llamada a search()
+ * 2. Los fallos son los mismos códigos consultados con el bit bajo a 1, así
+ *    que recorren caminos equivalentes a los de los aciertos
+ * 3. "build" separa la construcción incremental de la carga masiva (ver
+ *    BuildMode): el AVL de bulkLoad es más bajo que el de inserciones sueltas
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SearchBenchmark {
+
+    @Param({"AVL", "POOLED_AVL", "RED_BLACK", "SKIP_LIST", "B_PLUS_TREE"})
+    public InventoryIndex.Engine engine;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int n;
+
+    @Param({"SEQUENTIAL", "UNIFORM", "ZIPFIAN", "CLUSTERED"})
+    public KeyDistribution distribution;
+
+    @Param({"INCREMENTAL", "BULK"})
+    public BuildMode build;
+
+    private InventoryIndex index;
+    private int[] hits;
+    private int[] misses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Fixtures.SEED);
+        int[] codes = distribution.codes(n, random);
+        index = Fixtures.load(engine, build, codes);
+        hits = distribution.accesses(codes, Fixtures.QUERY_COUNT, random);
+        misses = new int[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            misses[i] = hits[i] | 1;
+        }
+    }
+
+    @Benchmark
+    public boolean searchHit() {
+        return index.search(hits[cursor++ & Fixtures.QUERY_MASK]);
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return index.search(misses[cursor++ & Fixtures.QUERY_MASK]);
+    }
+}
@@ -0,0 +1,189 @@
+package inventory.bench;
+
+import inventory.BPlusTreeInventorySystem;
+import inventory.InventorySystem;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Comparativa de las estrategias de búsqueda del AVL sobre un árbol mayor
+ * que la caché de último nivel
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Misma prueba que la antigua herramienta SearchBenchmark: 16M códigos,
+ *    lotes de 100k consultas con 50% de aciertos en orden aleatorio
+ * 2. Cada operación es un lote completo; @OperationsPerInvocation expresa
+ *    el resultado en búsquedas por segundo
+ * 3. Cada estructura vive en su propio estado, así una prueba solo construye
+ *    lo que usa (el árbol congelado no comparte instancia con el normal)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchStrategyBenchmark {
+
+    static final int BATCH_SIZE = 100_000;
+
+    /** Lotes distintos que se alternan para no medir siempre los mismos caminos */
+    static final int BATCH_COUNT = 16;
+
+    @Param("16000000")
+    public int n;
+
+    int[] codes;
+    int[][] batches;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Fixtures.SEED);
+        codes = KeyDistribution.UNIFORM.codes(n, random);
+        batches = new int[BATCH_COUNT][BATCH_SIZE];
+        for (int[] batch : batches) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                int hit = codes[random.nextInt(n)];
+                batch[i] = random.nextBoolean() ? hit : (hit | 1);  // Impar: fallo seguro
+            }
+        }
+    }
+
+    int[] nextBatch() {
+        return batches[next++ & (BATCH_COUNT - 1)];
+    }
+
+    @State(Scope.Benchmark)
+    public static class Avl {
+        InventorySystem inventory;
+
+        @Setup(Level.Trial)
+        public void setUp(SearchStrategyBenchmark data) {
+            inventory = new InventorySystem();
+            inventory.bulkLoad(data.codes);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Interleave {
+        @Param({"1", "4", "8", "16", "32"})
+        public int group;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Frozen {
+        @Param({"EYTZINGER", "VAN_EMDE_BOAS"})
+        public InventorySystem.FrozenLayout layout;
+
+        InventorySystem inventory;
+
+        @Setup(Level.Trial)
+        public void setUp(SearchStrategyBenchmark data) {
+            inventory = new InventorySystem();
+            inventory.bulkLoad(data.codes);
+            inventory.freeze(layout);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Sorted {
+        int[] codes;
+
+        @Setup(Level.Trial)
+        public void setUp(SearchStrategyBenchmark data) {
+            codes = Arrays.stream(data.codes).sorted().distinct().toArray();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BPlus {
+        BPlusTreeInventorySystem inventory;
+
+        @Setup(Level.Trial)
+        public void setUp(SearchStrategyBenchmark data) {
+            inventory = new BPlusTreeInventorySystem();
+            for (int code : data.codes) {
+                inventory.insert(code);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int searchLoop(Avl avl) {
+        int hits = 0;
+        for (int code : nextBatch()) {
+            if (avl.inventory.search(code)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public boolean[] searchAll(Avl avl) {
+        return avl.inventory.searchAll(nextBatch());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public boolean[] searchInterleaved(Avl avl, Interleave interleave) {
+        return avl.inventory.searchInterleaved(nextBatch(), interleave.group);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int frozenSearch(Frozen frozen) {
+        int hits = 0;
+        for (int code : nextBatch()) {
+            if (frozen.inventory.search(code)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int sortedArrayBinarySearch(Sorted sorted) {
+        int hits = 0;
+        for (int code : nextBatch()) {
+            if (Arrays.binarySearch(sorted.codes, code) >= 0) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int bPlusTreeSearch(BPlus bplus) {
+        int hits = 0;
+        for (int code : nextBatch()) {
+            if (bplus.inventory.search(code)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,127 @@
+package inventory.bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generador de rangos con distribución de Zipf (algoritmo de YCSB)
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Método de Gray et al. ("Quickly generating billion-record synthetic
+ *    databases"), el mismo que usa YCSB: tras precalcular zeta(n) cada muestra
+ *    cuesta O(1), sin tablas proporcionales a n
+ * 2. Devuelve rangos en [0, items): el 0 es el más popular; quien lo usa decide
+ *    a qué código corresponde cada rango
+ * 3. theta = 0.99 por defecto, como en YCSB
+ * 4. El número de elementos puede crecer entre llamadas (distribución "latest"
+ *    de YCSB): zeta se amplía de forma incremental con los términos nuevos
+ *
+ * No es seguro entre hilos si el número de elementos cambia: usar copy() por hilo
+ *
+ */
+public final class ZipfianGenerator {
+
+    public static final double DEFAULT_THETA = 0.99;
+
+    private final double theta;
+    private final double zeta2;     // zeta(2, theta)
+    private final double alpha;
+    private long items;             // Elementos para los que está calculado zetan
+    private double zetan;           // zeta(items, theta)
+    private double eta;
+
+    public ZipfianGenerator(long items) {
+        this(items, DEFAULT_THETA);
+    }
+
+    /**
+     * COMPLEJIDAD: O(items) para calcular zeta(items)
+     */
+    public ZipfianGenerator(long items, double theta) {
+        if (items < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un elemento: " + items);
+        }
+        if (theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("theta fuera de (0, 1): " + theta);
+        }
+        this.theta = theta;
+        this.zeta2 = zeta(0, 2, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        resize(items, zeta(0, items, theta));
+    }
+
+    private ZipfianGenerator(ZipfianGenerator other) {
+        this.theta = other.theta;
+        this.zeta2 = other.zeta2;
+        this.alpha = other.alpha;
+        this.items = other.items;
+        this.zetan = other.zetan;
+        this.eta = other.eta;
+    }
+
+    /**
+     * Copia independiente (para usar una por hilo) sin recalcular zeta
+     */
+    public ZipfianGenerator copy() {
+        return new ZipfianGenerator(this);
+    }
+
+    /**
+     * Suma de 1 / i^theta para i en (from, to]
+     */
+    static double zeta(long from, long to, double theta) {
+        double sum = 0;
+        for (long i = from + 1; i <= to; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+
+    private void resize(long newItems, double newZetan) {
+        this.items = newItems;
+        this.zetan = newZetan;
+        this.eta = (1 - Math.pow(2.0 / newItems, 1 - theta)) / (1 - zeta2 / newZetan);
+    }
+
+    /**
+     * Siguiente rango en [0, items)
+     *
+     * COMPLEJIDAD: O(1)
+     */
+    public long next(SplittableRandom random) {
+        return next(random, items);
+    }
+
+    /**
+     * Siguiente rango en [0, itemCount)
+     * DECISIÓN: Si itemCount crece solo se suman los términos nuevos de zeta
+     * (como YCSB); si decrece hay que recalcularla entera
+     *
+     * COMPLEJIDAD: O(1) amortizado mientras itemCount solo crezca
+     */
+    public long next(SplittableRandom random, long itemCount) {
+        if (itemCount != items) {
+            if (itemCount < 1) {
+                throw new IllegalArgumentException("Se necesita al menos un elemento: " + itemCount);
+            }
+            double newZetan = (itemCount > items)
+                    ? zetan + zeta(items, itemCount, theta)
+                    : zeta(0, itemCount, theta);
+            resize(itemCount, newZetan);
+        }
+        double u = random.nextDouble();
+        double uz = u * zetan;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        long rank = (long) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(rank, items - 1);
+    }
+
+    public long getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,135 @@
+package inventory.bench.workload;
+
+/**
+ * Histograma de latencias al estilo HdrHistogram (cubos log-lineales)
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Cubos log-lineales: cada potencia de dos se divide en SUB_BUCKETS / 2
+ *    cubos iguales, de modo que el error relativo es < 1 / 128 (≈ 0,8 %) para
+ *    cualquier valor entre 1 ns y 2^63 ns, con un array fijo de ~7.300 contadores
+ * 2. record() es O(1) y no asigna memoria: un numberOfLeadingZeros, dos
+ *    desplazamientos y un incremento
+ * 3. No es seguro entre hilos a propósito: cada hilo registra en su propio
+ *    histograma y al final se suman con add(), sin contención en la medida
+ * 4. Los percentiles devuelven el mayor valor equivalente del cubo (como
+ *    HdrHistogram): nunca subestiman la latencia real
+ *
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;        // 256
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >>> 1;      // 128
+    private static final int BUCKET_COUNT = indexOf(Long.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    // ======================== REGISTRO ========================
+
+    /**
+     * Registra un valor (ns); los negativos cuentan como 0
+     *
+     * COMPLEJIDAD: O(1)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Suma a este histograma los valores de "other"
+     *
+     * COMPLEJIDAD: O(BUCKET_COUNT)
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    // ======================== CUBOS ========================
+
+    /**
+     * Índice del cubo de "value"
+     * DECISIÓN: Los valores < SUB_BUCKETS tienen cubo propio (exactos); a partir
+     * de ahí se conservan los SUB_BUCKET_BITS bits más significativos
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS + 1;
+        int mantissa = (int) (value >>> shift);                 // En [128, 256)
+        return (shift + 1) * HALF_SUB_BUCKETS + (mantissa - HALF_SUB_BUCKETS);
+    }
+
+    /**
+     * Mayor valor que cae en el cubo "index"
+     */
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        long mantissa = index % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    // ======================== CONSULTAS ========================
+
+    /**
+     * Valor por debajo del cual queda el "percentile" % de las muestras
+     *
+     * COMPLEJIDAD: O(BUCKET_COUNT)
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return (totalCount == 0) ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return (totalCount == 0) ? 0 : (double) sum / totalCount;
+    }
+}
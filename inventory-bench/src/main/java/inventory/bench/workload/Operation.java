@@ -0,0 +1,16 @@
+package inventory.bench.workload;
+
+/**
+ * Tipos de operación de una carga de trabajo
+ *
+ * Formato en las trazas (una operación por línea):
+ *   READ <code>
+ *   INSERT <code>
+ *   RANGE <lo> <hi>
+ *
+ */
+public enum Operation {
+    READ,       // search(code)
+    INSERT,     // insert(code)
+    RANGE       // rangeScan(lo, hi)
+}
@@ -0,0 +1,102 @@
+package inventory.bench.workload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Traza de operaciones grabada en un fichero de texto
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Una operación por línea con el formato de Operation; las líneas vacías
+ *    y las que empiezan por '#' se ignoran
+ * 2. Se carga entera antes de medir, en arrays paralelos de primitivos: la
+ *    reproducción no lee disco ni asigna objetos por operación
+ * 3. Los errores de formato indican la línea para poder corregir la traza
+ *
+ */
+final class OperationTrace {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private byte[] operations = new byte[1024];
+    private int[] first = new int[1024];        // Código, o "lo" en RANGE
+    private int[] second = new int[1024];       // "hi" en RANGE
+    private int size;
+
+    private OperationTrace() {
+    }
+
+    static OperationTrace load(Path file) throws IOException {
+        OperationTrace trace = new OperationTrace();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                trace.parse(line, lineNumber);
+            }
+        }
+        return trace;
+    }
+
+    private void parse(String line, int lineNumber) {
+        String[] fields = line.split("\\s+");
+        Operation operation;
+        try {
+            operation = Operation.valueOf(fields[0].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Línea " + lineNumber + ": operación desconocida '" + fields[0] + "'");
+        }
+        int expected = (operation == Operation.RANGE) ? 3 : 2;
+        if (fields.length != expected) {
+            throw new IllegalArgumentException("Línea " + lineNumber + ": " + operation
+                    + " espera " + (expected - 1) + " código(s)");
+        }
+        try {
+            int a = Integer.parseInt(fields[1]);
+            int b = (operation == Operation.RANGE) ? Integer.parseInt(fields[2]) : 0;
+            add(operation, a, b);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Línea " + lineNumber + ": código no válido");
+        }
+    }
+
+    private void add(Operation operation, int a, int b) {
+        if (size == operations.length) {
+            int capacity = size + (size >> 1);
+            operations = Arrays.copyOf(operations, capacity);
+            first = Arrays.copyOf(first, capacity);
+            second = Arrays.copyOf(second, capacity);
+        }
+        operations[size] = (byte) operation.ordinal();
+        first[size] = a;
+        second[size] = b;
+        size++;
+    }
+
+    Operation operation(int i) {
+        return OPERATIONS[operations[i]];
+    }
+
+    int first(int i) {
+        return first[i];
+    }
+
+    int second(int i) {
+        return second[i];
+    }
+
+    int size() {
+        return size;
+    }
+}
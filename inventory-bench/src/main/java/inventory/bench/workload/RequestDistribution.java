@@ -0,0 +1,47 @@
+package inventory.bench.workload;
+
+import inventory.bench.ZipfianGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Elección del registro sobre el que actúa cada lectura o rango (como YCSB)
+ *
+ * Los registros se numeran por orden de alta (0 = el más antiguo); el código
+ * de cada uno lo decide SharedInventory.codeOf
+ *
+ */
+public enum RequestDistribution {
+
+    /** Todos los registros con la misma probabilidad */
+    UNIFORM {
+        @Override
+        long next(ZipfianGenerator zipf, SplittableRandom random, long recordCount) {
+            return random.nextLong(recordCount);
+        }
+    },
+
+    /** Zipf sobre el número de registro: unos pocos concentran casi todo el tráfico */
+    ZIPFIAN {
+        @Override
+        long next(ZipfianGenerator zipf, SplittableRandom random, long recordCount) {
+            return zipf.next(random, recordCount);
+        }
+    },
+
+    /**
+     * Los más recientes son los más populares: Zipf sobre la distancia al
+     * último alta, que se desplaza con cada inserción
+     */
+    LATEST {
+        @Override
+        long next(ZipfianGenerator zipf, SplittableRandom random, long recordCount) {
+            return recordCount - 1 - zipf.next(random, recordCount);
+        }
+    };
+
+    /**
+     * Registro en [0, recordCount); "zipf" debe ser propio del hilo
+     */
+    abstract long next(ZipfianGenerator zipf, SplittableRandom random, long recordCount);
+}
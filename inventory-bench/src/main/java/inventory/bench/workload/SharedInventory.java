@@ -0,0 +1,127 @@
+package inventory.bench.workload;
+
+import inventory.InventorySystem;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * InventorySystem compartido entre los hilos de la carga de trabajo
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. InventorySystem no es seguro entre hilos (insert reutiliza su array de
+ *    camino y rota nodos), así que se protege con un ReentrantReadWriteLock:
+ *    lecturas y rangos en paralelo, altas en exclusiva. La espera por el
+ *    cerrojo forma parte de la latencia medida, como la vería un cliente
+ * 2. Registros numerados por orden de alta y código = mezcla del número
+ *    (como el hash de claves de YCSB): los registros populares quedan
+ *    repartidos por todo el árbol en lugar de en una sola rama
+ * 3. El número del siguiente registro se asigna dentro del cerrojo de
+ *    escritura, así que recordCount solo avanza cuando el alta ya es visible
+ *    y las lecturas "latest" nunca piden un registro que aún no existe
+ *
+ */
+final class SharedInventory {
+
+    private final InventorySystem inventory = new InventorySystem();
+    private final Lock readLock;
+    private final Lock writeLock;
+    private volatile long recordCount;      // Escrito solo con writeLock
+
+    SharedInventory() {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    /**
+     * Carga los registros [0, records) antes de arrancar los hilos
+     */
+    void preload(int records) {
+        int[] codes = new int[records];
+        for (int i = 0; i < records; i++) {
+            codes[i] = codeOf(i);
+        }
+        writeLock.lock();
+        try {
+            inventory.bulkLoad(codes);
+            recordCount = records;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Código del registro "record"
+     * DECISIÓN: Finalizador de MurmurHash3 (biyectivo sobre 64 bits); se queda
+     * la mitad alta, de modo que los códigos cubren todo el rango de int
+     */
+    static int codeOf(long record) {
+        long h = record;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) (h >>> 32);
+    }
+
+    // ======================== OPERACIONES ========================
+
+    boolean search(int code) {
+        readLock.lock();
+        try {
+            return inventory.search(code);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    void insert(int code) {
+        writeLock.lock();
+        try {
+            inventory.insert(code);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Da de alta el siguiente registro y devuelve su número
+     */
+    long insertNextRecord() {
+        writeLock.lock();
+        try {
+            long record = recordCount;
+            inventory.insert(codeOf(record));
+            recordCount = record + 1;
+            return record;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void rangeScan(int lo, int hi, IntConsumer action) {
+        readLock.lock();
+        try {
+            inventory.rangeScan(lo, hi, action);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    long getRecordCount() {
+        return recordCount;
+    }
+
+    int getSize() {
+        readLock.lock();
+        try {
+            return inventory.getSize();
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
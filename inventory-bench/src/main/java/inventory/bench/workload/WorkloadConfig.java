@@ -0,0 +1,149 @@
+package inventory.bench.workload;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Opciones de la carga de trabajo (--nombre valor)
+ *
+ *   --threads N          hilos cliente                       (núcleos disponibles)
+ *   --duration S         segundos medidos                    (10)
+ *   --warmup S           segundos de calentamiento sin medir (2)
+ *   --records N          registros cargados al inicio        (1000000)
+ *   --mix M              pesos, p. ej. read=90,insert=5,range=5
+ *   --distribution D     UNIFORM | ZIPFIAN | LATEST          (ZIPFIAN)
+ *   --scan-length N      códigos esperados por rango         (100)
+ *   --rate R             ops/s totales; 0 = bucle cerrado    (0)
+ *   --trace FICHERO      reproduce una traza en lugar de generar operaciones
+ *   --seed N             semilla                             (42)
+ *
+ */
+final class WorkloadConfig {
+
+    static final String USAGE = "Uso: WorkloadDriver [--threads N] [--duration S] [--warmup S] [--records N]"
+            + " [--mix read=90,insert=5,range=5] [--distribution UNIFORM|ZIPFIAN|LATEST]"
+            + " [--scan-length N] [--rate OPS] [--trace FICHERO] [--seed N]";
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    int threads = Runtime.getRuntime().availableProcessors();
+    int durationSeconds = 10;
+    int warmupSeconds = 2;
+    int records = 1_000_000;
+    String mixText = "read=90,insert=5,range=5";
+    int[] mixWeights = parseMix(mixText);       // Peso por Operation.ordinal()
+    int totalWeight = sum(mixWeights);
+    RequestDistribution distribution = RequestDistribution.ZIPFIAN;
+    int scanLength = 100;
+    long rate;
+    Path trace;
+    long seed = 42;
+
+    static WorkloadConfig parse(String[] args) {
+        WorkloadConfig config = new WorkloadConfig();
+        if (args.length % 2 != 0) {
+            throw new IllegalArgumentException(USAGE);
+        }
+        for (int i = 0; i < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--threads":
+                    config.threads = positive(args[i], Integer.parseInt(value));
+                    break;
+                case "--duration":
+                    config.durationSeconds = positive(args[i], Integer.parseInt(value));
+                    break;
+                case "--warmup":
+                    config.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "--records":
+                    config.records = Integer.parseInt(value);
+                    break;
+                case "--mix":
+                    config.mixWeights = parseMix(value);
+                    config.totalWeight = sum(config.mixWeights);
+                    config.mixText = value;
+                    break;
+                case "--distribution":
+                    config.distribution = RequestDistribution.valueOf(value.toUpperCase(Locale.ROOT));
+                    break;
+                case "--scan-length":
+                    config.scanLength = positive(args[i], Integer.parseInt(value));
+                    break;
+                case "--rate":
+                    config.rate = Long.parseLong(value);
+                    break;
+                case "--trace":
+                    config.trace = Path.of(value);
+                    break;
+                case "--seed":
+                    config.seed = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: " + args[i] + "\n" + USAGE);
+            }
+        }
+        if (config.warmupSeconds < 0 || config.records < 0 || config.rate < 0) {
+            throw new IllegalArgumentException("--warmup, --records y --rate no pueden ser negativos");
+        }
+        if (config.trace == null && config.records == 0) {
+            throw new IllegalArgumentException("La carga generada necesita al menos un registro inicial");
+        }
+        return config;
+    }
+
+    private static int positive(String option, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(option + " debe ser positivo: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * "read=90,insert=5,range=5" -> pesos por operación (las que faltan pesan 0)
+     */
+    static int[] parseMix(String text) {
+        int[] weights = new int[OPERATIONS.length];
+        for (String part : text.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mezcla no válida: " + text);
+            }
+            Operation operation = Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Peso negativo en la mezcla: " + part);
+            }
+            weights[operation.ordinal()] = weight;
+        }
+        if (sum(weights) == 0) {
+            throw new IllegalArgumentException("La mezcla no tiene ninguna operación: " + text);
+        }
+        return weights;
+    }
+
+    /**
+     * Operación aleatoria según los pesos de la mezcla
+     *
+     * COMPLEJIDAD: O(número de tipos de operación)
+     */
+    Operation nextOperation(SplittableRandom random) {
+        int r = random.nextInt(totalWeight);
+        for (int i = 0; i < mixWeights.length; i++) {
+            r -= mixWeights[i];
+            if (r < 0) {
+                return OPERATIONS[i];
+            }
+        }
+        throw new IllegalStateException();      // Inalcanzable: r < totalWeight
+    }
+
+    private static int sum(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,311 @@
+package inventory.bench.workload;
+
+import inventory.bench.ZipfianGenerator;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntConsumer;
+
+/**
+ * Generador de carga multihilo con latencias por percentil
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Mezclas configurables de lecturas, altas y rangos al estilo YCSB, con
+ *    elección de registro UNIFORM, ZIPFIAN o LATEST; o bien reproducción de
+ *    una traza grabada (--trace), repartida entre los hilos por turnos
+ * 2. Cada hilo mide cada operación con System.nanoTime() y la registra en sus
+ *    propios histogramas (uno por tipo de operación); se suman al final, así
+ *    la medida no añade contención entre hilos
+ * 3. Con --rate el generador es de bucle abierto: cada operación tiene una
+ *    hora prevista y la latencia se mide desde ella, no desde que el hilo
+ *    queda libre. Si el sistema se atasca las operaciones retrasadas cuentan
+ *    la espera (se evita la "omisión coordinada"); sin --rate el bucle es
+ *    cerrado y mide solo el tiempo de servicio
+ * 4. El calentamiento ejecuta la misma carga sin registrar, para que el JIT
+ *    haya compilado las rutas calientes antes de medir
+ *
+ * Uso: java -cp benchmarks.jar inventory.bench.workload.WorkloadDriver [opciones]
+ *      (ver WorkloadConfig)
+ *
+ */
+public final class WorkloadDriver {
+
+    private static final int OPERATION_COUNT = Operation.values().length;
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+    private static final long SPIN_NANOS = 100_000;    // Por debajo, parkNanos se pasa de largo
+
+    private final WorkloadConfig config;
+    private final OperationTrace trace;         // null si la carga se genera
+    private final SharedInventory inventory = new SharedInventory();
+
+    private WorkloadDriver(WorkloadConfig config, OperationTrace trace) {
+        this.config = config;
+        this.trace = trace;
+    }
+
+    // ======================== HILOS CLIENTE ========================
+
+    /**
+     * Un hilo cliente con su generador, su Zipf y sus histogramas
+     */
+    private final class Worker implements Runnable, IntConsumer {
+
+        private final int id;
+        private final SplittableRandom random;
+        private final ZipfianGenerator zipf;
+        private final long[] window;            // {inicio de la medida, fin}
+        private final LatencyHistogram[] histograms = new LatencyHistogram[OPERATION_COUNT];
+        private long scanned;                   // Consumido para que el JIT no elimine los rangos
+        private long hits;
+
+        Worker(int id, SplittableRandom random, ZipfianGenerator zipf, long[] window) {
+            this.id = id;
+            this.random = random;
+            this.zipf = zipf;
+            this.window = window;
+            for (int i = 0; i < OPERATION_COUNT; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (trace != null) {
+                replay();
+            } else {
+                generate();
+            }
+        }
+
+        /**
+         * Carga generada hasta el final de la ventana de medida
+         */
+        private void generate() {
+            long measureStart = window[0];
+            long end = window[1];
+            long interval = intervalNanos();
+            long intended = System.nanoTime();
+            while (true) {
+                long start;
+                if (interval > 0) {
+                    intended += interval;
+                    waitUntil(intended);
+                    start = intended;
+                } else {
+                    start = System.nanoTime();
+                }
+                if (start >= end) {
+                    return;
+                }
+                Operation operation = config.nextOperation(random);
+                boolean hit = execute(operation);
+                long latency = System.nanoTime() - start;
+                if (start >= measureStart) {
+                    histograms[operation.ordinal()].record(latency);
+                    if (hit) {
+                        hits++;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Ejecuta una operación generada; devuelve true si era una lectura con acierto
+         */
+        private boolean execute(Operation operation) {
+            switch (operation) {
+                case READ:
+                    return inventory.search(SharedInventory.codeOf(nextRecord()));
+                case INSERT:
+                    inventory.insertNextRecord();
+                    return false;
+                case RANGE:
+                    int lo = SharedInventory.codeOf(nextRecord());
+                    inventory.rangeScan(lo, rangeEnd(lo), this);
+                    return false;
+                default:
+                    throw new IllegalStateException("Operación no soportada: " + operation);
+            }
+        }
+
+        private long nextRecord() {
+            return config.distribution.next(zipf, random, inventory.getRecordCount());
+        }
+
+        /**
+         * Extremo superior de un rango que contiene en media scanLength códigos
+         * DECISIÓN: Los códigos están repartidos uniformemente por los 2^32
+         * valores de int, así que basta con escalar por la densidad actual
+         */
+        private int rangeEnd(int lo) {
+            long width = ((long) config.scanLength << 32) / inventory.getRecordCount();
+            return (int) Math.min(Integer.MAX_VALUE, lo + width);
+        }
+
+        /**
+         * Operaciones id, id + hilos, id + 2 * hilos... de la traza
+         */
+        private void replay() {
+            long interval = intervalNanos();
+            long intended = System.nanoTime();
+            for (int i = id; i < trace.size(); i += config.threads) {
+                long start;
+                if (interval > 0) {
+                    intended += interval;
+                    waitUntil(intended);
+                    start = intended;
+                } else {
+                    start = System.nanoTime();
+                }
+                Operation operation = trace.operation(i);
+                switch (operation) {
+                    case READ:
+                        if (inventory.search(trace.first(i))) {
+                            hits++;
+                        }
+                        break;
+                    case INSERT:
+                        inventory.insert(trace.first(i));
+                        break;
+                    case RANGE:
+                        inventory.rangeScan(trace.first(i), trace.second(i), this);
+                        break;
+                    default:
+                        throw new IllegalStateException("Operación no soportada: " + operation);
+                }
+                histograms[operation.ordinal()].record(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void accept(int code) {
+            scanned += code;
+        }
+    }
+
+    /**
+     * Separación entre operaciones de un mismo hilo con --rate (0 = bucle cerrado)
+     */
+    private long intervalNanos() {
+        return (config.rate == 0) ? 0 : Math.max(1, 1_000_000_000L * config.threads / config.rate);
+    }
+
+    /**
+     * Espera hasta "deadline" (System.nanoTime)
+     * DECISIÓN: parkNanos para las esperas largas y espera activa en los
+     * últimos SPIN_NANOS: el retraso al despertar se mediría como latencia
+     */
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+                Thread.yield();     // Cede la CPU si hay otros hilos listos
+            }
+        }
+    }
+
+    // ======================== EJECUCIÓN ========================
+
+    private void run() throws InterruptedException {
+        if (config.records > 0) {
+            inventory.preload(config.records);
+        }
+        ZipfianGenerator zipf = (trace == null) ? new ZipfianGenerator(Math.max(1, config.records)) : null;
+        long initialRecords = inventory.getRecordCount();
+
+        long now = System.nanoTime();
+        long measureStart = now + config.warmupSeconds * 1_000_000_000L;
+        long[] window = {measureStart, measureStart + config.durationSeconds * 1_000_000_000L};
+
+        SplittableRandom seeds = new SplittableRandom(config.seed);
+        Worker[] workers = new Worker[config.threads];
+        Thread[] threads = new Thread[config.threads];
+        for (int i = 0; i < config.threads; i++) {
+            workers[i] = new Worker(i, seeds.split(), (zipf == null) ? null : zipf.copy(), window);
+            threads[i] = new Thread(workers[i], "workload-" + i);
+        }
+        long wallStart = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+
+        double seconds = (trace == null) ? config.durationSeconds : wallNanos / 1e9;
+        if (trace == null) {
+            System.out.printf("Carga: %d hilos, %d s medidos (+%d s de calentamiento), %s, mezcla %s%s%n",
+                    config.threads, config.durationSeconds, config.warmupSeconds,
+                    config.distribution, config.mixText, describeRate());
+            System.out.printf("Registros: %d al inicio, %d al final%n", initialRecords, inventory.getRecordCount());
+        } else {
+            System.out.printf("Traza %s: %d operaciones, %d hilos, %.2f s%s%n",
+                    config.trace, trace.size(), config.threads, seconds, describeRate());
+            System.out.printf("Códigos: %d al final%n", inventory.getSize());
+        }
+        report(workers, seconds);
+    }
+
+    private String describeRate() {
+        return (config.rate == 0) ? ", bucle cerrado" : ", " + config.rate + " ops/s previstas";
+    }
+
+    /**
+     * Tabla con media y percentiles por tipo de operación (en microsegundos)
+     */
+    private static void report(Worker[] workers, double seconds) {
+        LatencyHistogram total = new LatencyHistogram();
+        long hits = 0;
+        long scanned = 0;
+
+        System.out.printf("%n%-8s %12s %12s %10s %10s %10s %10s %10s%n",
+                "Op", "ops", "ops/s", "media(µs)", "p50(µs)", "p99(µs)", "p999(µs)", "máx(µs)");
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram merged = new LatencyHistogram();
+            for (Worker worker : workers) {
+                merged.add(worker.histograms[operation.ordinal()]);
+            }
+            if (merged.getTotalCount() > 0) {
+                printRow(operation.name(), merged, seconds);
+                total.add(merged);
+            }
+        }
+        printRow("TOTAL", total, seconds);
+
+        for (Worker worker : workers) {
+            hits += worker.hits;
+            scanned += worker.scanned;
+        }
+        System.out.printf("%nLecturas con acierto: %d (suma de control de los rangos: %d)%n", hits, scanned);
+    }
+
+    private static void printRow(String name, LatencyHistogram histogram, double seconds) {
+        System.out.printf("%-8s %12d %12.0f %10.2f", name, histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds, histogram.getMean() / 1e3);
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %10.2f", histogram.getValueAtPercentile(percentile) / 1e3);
+        }
+        System.out.printf(" %10.2f%n", histogram.getMax() / 1e3);
+    }
+
+    // ======================== PUNTO DE ENTRADA ========================
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        WorkloadConfig config;
+        OperationTrace trace;
+        try {
+            config = WorkloadConfig.parse(args);
+            trace = (config.trace == null) ? null : OperationTrace.load(config.trace);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        new WorkloadDriver(config, trace).run();
+    }
+}
@@ -0,0 +1,59 @@
+package inventory.bench;
+
+import inventory.InventoryIndex;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixturesTest {
+
+    @Test
+    void everyEngineAndBuildModeLoadsTheSameCodes() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            int[] codes = distribution.codes(5_000, new SplittableRandom(Fixtures.SEED));
+            int[] expected = Arrays.stream(codes).sorted().distinct().toArray();
+            for (InventoryIndex.Engine engine : InventoryIndex.Engine.values()) {
+                for (BuildMode build : BuildMode.values()) {
+                    String label = distribution + " " + engine + " " + build;
+                    InventoryIndex index = Fixtures.load(engine, build, codes.clone());
+                    assertEquals(expected.length, index.getSize(), label);
+                    assertArrayEquals(expected, drain(index.ascendingIterator()), label);
+                }
+            }
+        }
+    }
+
+    @Test
+    void generatedCodesAreEvenSoOddProbesMiss() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            SplittableRandom random = new SplittableRandom(Fixtures.SEED);
+            int[] codes = distribution.codes(10_000, random);
+            for (int code : codes) {
+                assertEquals(0, code & 1, distribution.name());
+            }
+            int[] sortedCodes = Arrays.stream(codes).sorted().toArray();
+            for (int access : distribution.accesses(codes, 10_000, random)) {
+                assertTrue(Arrays.binarySearch(sortedCodes, access) >= 0, distribution.name());
+            }
+        }
+    }
+
+    private static int[] drain(PrimitiveIterator.OfInt iterator) {
+        int[] codes = new int[16];
+        int n = 0;
+        while (iterator.hasNext()) {
+            if (n == codes.length) {
+                codes = Arrays.copyOf(codes, 2 * n);
+            }
+            codes[n++] = iterator.nextInt();
+        }
+        return Arrays.copyOf(codes, n);
+    }
+}
@@ -0,0 +1,58 @@
+package inventory.bench;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfianGeneratorTest {
+
+    @Test
+    void ranksStayInRangeAndFollowZipf() {
+        int items = 1_000;
+        ZipfianGenerator zipf = new ZipfianGenerator(items);
+        SplittableRandom random = new SplittableRandom(121);
+        long[] counts = new long[items];
+        int samples = 1_000_000;
+        for (int i = 0; i < samples; i++) {
+            long rank = zipf.next(random);
+            assertTrue(rank >= 0 && rank < items, "rango " + rank);
+            counts[(int) rank]++;
+        }
+        // P(rango 0) = 1 / zeta(n); el rango 1 es 2^theta veces menos frecuente
+        double expected = samples / ZipfianGenerator.zeta(0, items, ZipfianGenerator.DEFAULT_THETA);
+        assertEquals(expected, counts[0], expected * 0.02);
+        assertEquals(Math.pow(2, ZipfianGenerator.DEFAULT_THETA), (double) counts[0] / counts[1], 0.1);
+    }
+
+    @Test
+    void growingMatchesFreshGeneratorAndCopyIsIndependent() {
+        ZipfianGenerator grown = new ZipfianGenerator(100);
+        grown.next(new SplittableRandom(1), 5_000);     // Amplía zeta de forma incremental
+        ZipfianGenerator fresh = new ZipfianGenerator(5_000);
+        ZipfianGenerator copy = fresh.copy();
+        SplittableRandom a = new SplittableRandom(122);
+        SplittableRandom b = new SplittableRandom(122);
+        SplittableRandom c = new SplittableRandom(122);
+        for (int i = 0; i < 10_000; i++) {
+            long expected = fresh.next(a);
+            assertEquals(expected, grown.next(b));
+            assertEquals(expected, copy.next(c));
+        }
+        assertEquals(5_000, grown.getItems());
+        copy.next(c, 10);
+        assertEquals(10, copy.getItems());
+        assertEquals(5_000, fresh.getItems());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(10, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(10).next(new SplittableRandom(), 0));
+    }
+}
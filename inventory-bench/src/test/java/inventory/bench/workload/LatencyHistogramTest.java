@@ -0,0 +1,85 @@
+package inventory.bench.workload;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 0; value < 256; value++) {
+            histogram.record(value);
+        }
+        assertEquals(256, histogram.getTotalCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(255, histogram.getMax());
+        assertEquals(127.5, histogram.getMean(), 1e-9);
+        for (int value = 0; value < 256; value++) {
+            assertEquals(value, histogram.getValueAtPercentile(100.0 * (value + 1) / 256));
+        }
+    }
+
+    @Test
+    void percentilesNeverUnderestimateAndStayWithinRelativeError() {
+        Random random = new Random(111);
+        long[] values = new long[100_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            // Log-uniforme entre 1 ns y ~1 h: todas las magnitudes
+            values[i] = (long) Math.exp(random.nextDouble() * Math.log(3.6e12));
+            histogram.record(values[i]);
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double percentile : new double[] {0.1, 1, 10, 50, 90, 99, 99.9, 99.99, 100}) {
+            long exact = sorted[(int) Math.ceil(percentile / 100 * sorted.length) - 1];
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact, "p" + percentile + ": " + reported + " < " + exact);
+            assertTrue(reported - exact <= exact / 128, "p" + percentile + ": " + reported + " frente a " + exact);
+        }
+        assertEquals(sorted[sorted.length - 1], histogram.getMax());
+        assertEquals(sorted[0], histogram.getMin());
+    }
+
+    @Test
+    void addMergesCountsAndExtremes() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        LatencyHistogram both = new LatencyHistogram();
+        Random random = new Random(112);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextInt(1_000_000);
+            (i % 3 == 0 ? a : b).record(value);
+            both.record(value);
+        }
+        a.add(b);
+        assertEquals(both.getTotalCount(), a.getTotalCount());
+        assertEquals(both.getMin(), a.getMin());
+        assertEquals(both.getMax(), a.getMax());
+        assertEquals(both.getMean(), a.getMean(), 1e-9);
+        for (double percentile : new double[] {50, 99, 99.9}) {
+            assertEquals(both.getValueAtPercentile(percentile), a.getValueAtPercentile(percentile));
+        }
+    }
+
+    @Test
+    void extremeAndEmptyCases() {
+        LatencyHistogram empty = new LatencyHistogram();
+        assertEquals(0, empty.getValueAtPercentile(99));
+        assertEquals(0, empty.getMin());
+        assertEquals(0, empty.getMean(), 0);
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);               // Cuenta como 0
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+}
@@ -0,0 +1,57 @@
+package inventory.bench.workload;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OperationTraceTest {
+
+    @Test
+    void loadsOperationsSkippingCommentsAndBlankLines() throws IOException {
+        StringBuilder text = new StringBuilder("# traza de prueba\n\nread 5\n  INSERT -7  \nrange 1 100\n");
+        for (int i = 0; i < 3_000; i++) {
+            text.append("insert ").append(i).append('\n');     // Obliga a ampliar los arrays
+        }
+        OperationTrace trace = load(text.toString());
+        assertEquals(3_003, trace.size());
+        assertEquals(Operation.READ, trace.operation(0));
+        assertEquals(5, trace.first(0));
+        assertEquals(Operation.INSERT, trace.operation(1));
+        assertEquals(-7, trace.first(1));
+        assertEquals(Operation.RANGE, trace.operation(2));
+        assertEquals(1, trace.first(2));
+        assertEquals(100, trace.second(2));
+        assertEquals(2_999, trace.first(3_002));
+    }
+
+    @Test
+    void formatErrorsNameTheLine() {
+        String[][] cases = {
+                {"read 1\nwrite 2\n", "Línea 2"},
+                {"# comentario\nrange 1\n", "Línea 2"},
+                {"read 1 2\n", "Línea 1"},
+                {"\n\ninsert abc\n", "Línea 3"}
+        };
+        for (String[] testCase : cases) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> load(testCase[0]));
+            assertTrue(e.getMessage().startsWith(testCase[1]), e.getMessage());
+        }
+    }
+
+    private static OperationTrace load(String text) throws IOException {
+        Path file = Files.createTempFile("trace", ".txt");
+        try {
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+            return OperationTrace.load(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
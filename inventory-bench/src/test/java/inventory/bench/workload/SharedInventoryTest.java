@@ -0,0 +1,47 @@
+package inventory.bench.workload;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SharedInventoryTest {
+
+    @Test
+    void concurrentReadersAlwaysSeeCountedRecords() throws InterruptedException {
+        SharedInventory inventory = new SharedInventory();
+        inventory.preload(10_000);
+        AtomicInteger misses = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            SplittableRandom random = new SplittableRandom(141 + t);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    inventory.insertNextRecord();
+                    // Todo registro contado ya es visible para las lecturas
+                    long record = random.nextLong(inventory.getRecordCount());
+                    if (!inventory.search(SharedInventory.codeOf(record))) {
+                        misses.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, misses.get());
+        assertEquals(30_000, inventory.getRecordCount());
+
+        // codeOf se queda con 32 de 64 bits: puede haber alguna colisión
+        Set<Integer> codes = new HashSet<>();
+        for (long record = 0; record < inventory.getRecordCount(); record++) {
+            codes.add(SharedInventory.codeOf(record));
+        }
+        assertEquals(codes.size(), inventory.getSize());
+    }
+}
@@ -0,0 +1,106 @@
+package inventory.bench.workload;
+
+import inventory.bench.ZipfianGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkloadConfigTest {
+
+    @Test
+    void parsesEveryOption() {
+        WorkloadConfig config = WorkloadConfig.parse(new String[] {
+                "--threads", "3", "--duration", "5", "--warmup", "0", "--records", "10",
+                "--mix", "read=1, range=3", "--distribution", "latest", "--scan-length", "7",
+                "--rate", "1000", "--trace", "t.txt", "--seed", "9"});
+        assertEquals(3, config.threads);
+        assertEquals(5, config.durationSeconds);
+        assertEquals(0, config.warmupSeconds);
+        assertEquals(10, config.records);
+        assertArrayEquals(new int[] {1, 0, 3}, config.mixWeights);
+        assertEquals(4, config.totalWeight);
+        assertEquals(RequestDistribution.LATEST, config.distribution);
+        assertEquals(7, config.scanLength);
+        assertEquals(1000, config.rate);
+        assertEquals(Path.of("t.txt"), config.trace);
+        assertEquals(9, config.seed);
+    }
+
+    @Test
+    void defaultsMatchTheDocumentedMix() {
+        WorkloadConfig config = WorkloadConfig.parse(new String[0]);
+        assertArrayEquals(new int[] {90, 5, 5}, config.mixWeights);
+        assertEquals(RequestDistribution.ZIPFIAN, config.distribution);
+        assertEquals(1_000_000, config.records);
+    }
+
+    @Test
+    void nextOperationFollowsTheMixWeights() {
+        WorkloadConfig config = WorkloadConfig.parse(new String[] {"--mix", "read=70,insert=20,range=10"});
+        SplittableRandom random = new SplittableRandom(131);
+        int[] counts = new int[Operation.values().length];
+        int samples = 100_000;
+        for (int i = 0; i < samples; i++) {
+            counts[config.nextOperation(random).ordinal()]++;
+        }
+        assertEquals(0.7, (double) counts[Operation.READ.ordinal()] / samples, 0.01);
+        assertEquals(0.2, (double) counts[Operation.INSERT.ordinal()] / samples, 0.01);
+        assertEquals(0.1, (double) counts[Operation.RANGE.ordinal()] / samples, 0.01);
+    }
+
+    @Test
+    void rejectsInvalidOptions() {
+        String[][] invalid = {
+                {"--threads"},
+                {"--unknown", "1"},
+                {"--threads", "0"},
+                {"--warmup", "-1"},
+                {"--records", "0"},
+                {"--rate", "-5"},
+                {"--mix", "read"},
+                {"--mix", "read=0,insert=0"},
+                {"--mix", "read=-1,insert=2"},
+                {"--mix", "delete=1"},
+                {"--distribution", "GAUSSIAN"},
+                {"--threads", "x"}
+        };
+        for (String[] args : invalid) {
+            assertThrows(IllegalArgumentException.class, () -> WorkloadConfig.parse(args), String.join(" ", args));
+        }
+        // Con traza no hacen falta registros iniciales
+        assertEquals(0, WorkloadConfig.parse(new String[] {"--records", "0", "--trace", "t.txt"}).records);
+    }
+
+    @Test
+    void requestDistributionsStayInRange() {
+        SplittableRandom random = new SplittableRandom(132);
+        for (RequestDistribution distribution : RequestDistribution.values()) {
+            ZipfianGenerator zipf = new ZipfianGenerator(1);
+            long recordCount = 1_000;
+            long recent = 0;
+            for (int i = 0; i < 10_000; i++) {
+                long record = distribution.next(zipf, random, recordCount);
+                assertTrue(record >= 0 && record < recordCount, distribution + ": " + record);
+                if (record >= recordCount - 10) {
+                    recent++;
+                }
+                if (i % 1_000 == 999) {
+                    recordCount += 500;     // El inventario crece durante la carga
+                }
+            }
+            // Los 10 últimos: ~1 % de las lecturas uniformes, ~35 % con LATEST (Zipf 0.99)
+            if (distribution == RequestDistribution.LATEST) {
+                assertTrue(recent > 2_500, "LATEST debería favorecer los últimos registros: " + recent);
+            } else if (distribution == RequestDistribution.UNIFORM) {
+                assertTrue(recent < 500, "UNIFORM no debería favorecer los últimos registros: " + recent);
+            }
+        }
+    }
+}
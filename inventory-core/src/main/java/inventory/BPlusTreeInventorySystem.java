@@ -0,0 +1,648 @@
+package inventory;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Sistema de Inventario vía Árbol B+ sobre un pool de ints
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Nodos anchos: las claves y el contador de un nodo ocupan un bloque
+ *    contiguo de 16 ints (64 bytes), así que uno o dos fallos de caché traen
+ *    hasta 15 comparaciones en lugar de la única de un AVLNode
+ * 2. Todos los códigos viven en las hojas; los nodos internos solo guardan
+ *    separadores, por lo que la altura es ~log16(n) (7 niveles para 2^28 códigos)
+ * 3. Sin objeto por nodo (como PooledInventorySystem): todos los nodos viven en
+ *    un único int[] y un nodo es un índice; tras las claves van los índices de
+ *    los hijos, de modo que cada nivel del descenso lee un tramo contiguo de
+ *    128 bytes en lugar de tres objetos dispersos
+ * 4. Hojas doblemente enlazadas: los recorridos ordenados y las consultas por
+ *    rango avanzan por la lista de hojas de forma secuencial, sin volver a subir
+ * 5. Misma semántica que InventorySystem: sin duplicados, mismos recorridos
+ * 6. Sin alineación a 64 bytes: los datos del int[] empiezan tras la cabecera
+ *    del objeto (16 bytes con compressed class pointers) y la JVM solo
+ *    garantiza alineación a 8 bytes y puede mover el array, así que el bloque
+ *    de claves de un nodo suele repartirse entre dos líneas de caché y un nivel
+ *    del descenso toca dos o tres líneas adyacentes (que el prefetcher de línea
+ *    adyacente tiende a traer juntas). Rellenar los nodos según la dirección
+ *    del array no es fiable desde Java
+ *
+ */
+public class BPlusTreeInventorySystem implements InventoryIndex {
+
+    /**
+     * Índice reservado que representa "sin nodo"
+     * DECISIÓN: Posición 0 del pool, como en PooledInventorySystem
+     */
+    private static final int NIL = 0;
+
+    // Disposición de un nodo dentro del pool (en ints, a partir de node * NODE_INTS)
+    private static final int KEY_CAPACITY = 15;     // Claves en [0, 15)
+    private static final int COUNT = 15;            // Claves en uso
+    private static final int CHILDREN = 16;         // Interno: 16 hijos en [16, 32)
+    private static final int NEXT = CHILDREN;       // Hoja: hoja siguiente
+    private static final int PREV = CHILDREN + 1;   // Hoja: hoja anterior
+    private static final int NODE_INTS = 32;
+    private static final int NODE_SHIFT = 5;        // log2(NODE_INTS)
+
+    /**
+     * Claves que quedan en la mitad izquierda al partir un nodo interno
+     * (15 separadores: 7 a la izquierda, 1 sube, 7 a la derecha)
+     */
+    private static final int INNER_SPLIT = KEY_CAPACITY / 2;
+
+    /**
+     * Claves que quedan en la hoja izquierda al partir una hoja
+     */
+    private static final int LEAF_SPLIT = (KEY_CAPACITY + 1) / 2;
+
+    /**
+     * Altura máxima de un árbol B+ de códigos int
+     * DECISIÓN: Los nodos del borde derecho (el camino de la raíz a "tail")
+     * pueden quedar casi vacíos: tras una partición por la derecha el nodo
+     * nuevo tiene un solo hijo o una sola clave. Un nodo solo sale del borde
+     * derecho al partirse, y entonces conserva al menos 8 hijos (interno) o 7
+     * claves (hoja). Así, fuera del borde derecho todo nodo interno tiene al
+     * menos 8 hijos y toda hoja al menos 7 claves. La raíz tiene al menos 2
+     * hijos y su primer subárbol, de altura h - 1, queda entero fuera del borde
+     * derecho: contiene al menos 7 * 8^(h-2) códigos. Con 2^32 códigos, h <= 11
+     */
+    private static final int MAX_HEIGHT = 16;
+
+    private static final int DEFAULT_CAPACITY = 16;     // Nodos iniciales del pool
+
+    private int[] nodes;        // Pool de nodos: NODE_INTS ints por nodo
+    private int nextFree;       // Siguiente nodo libre del pool
+    private int root;           // Raíz del árbol (una hoja mientras quepa)
+    private int head;           // Hoja con los códigos menores
+    private int tail;           // Hoja con los códigos mayores
+    private int size;           // Contador de elementos (para estadísticas)
+    private int height;         // Niveles del árbol (1 = solo una hoja)
+    private int leafCount;      // Hojas reservadas
+    private int innerCount;     // Nodos internos reservados
+
+    // Camino de descenso reutilizable: nodo interno y posición del hijo elegido
+    private final int[] path = new int[MAX_HEIGHT];
+    private final int[] slots = new int[MAX_HEIGHT];
+
+    /**
+     * Constructor
+     * DECISIÓN: Siempre hay al menos una hoja (vacía), así la inserción no
+     * necesita un caso especial para el árbol vacío
+     */
+    public BPlusTreeInventorySystem() {
+        this.nodes = new int[DEFAULT_CAPACITY * NODE_INTS];
+        this.nextFree = 1;      // El nodo 0 es NIL
+        int leaf = allocate();
+        this.leafCount = 1;
+        this.root = leaf;
+        this.head = leaf;
+        this.tail = leaf;
+        this.size = 0;
+        this.height = 1;
+    }
+
+    // ======================== GESTIÓN DEL POOL ========================
+
+    /**
+     * Reserva un nodo vacío (claves a 0, contador a 0, enlaces a NIL)
+     * DECISIÓN: Crecimiento x1.5 como en PooledInventorySystem; los nodos
+     * nunca se liberan, así que los reservados siempre están a cero
+     *
+     * Puede recolocar "nodes": no guardar el array en locales a través de esta llamada
+     */
+    private int allocate() {
+        if ((long) (nextFree + 1) << NODE_SHIFT > nodes.length) {
+            grow();
+        }
+        return nextFree++;
+    }
+
+    private void grow() {
+        int oldCapacity = nodes.length >> NODE_SHIFT;
+        long newCapacity = oldCapacity + Math.max(oldCapacity >> 1, DEFAULT_CAPACITY);
+        newCapacity = Math.min(newCapacity, (Integer.MAX_VALUE - 8) >> NODE_SHIFT);
+        if (newCapacity <= oldCapacity) {
+            throw new IllegalStateException("Pool de nodos lleno");
+        }
+        nodes = Arrays.copyOf(nodes, (int) newCapacity << NODE_SHIFT);
+    }
+
+    // ======================== BÚSQUEDA EN NODO ========================
+
+    /**
+     * Posición del hijo del nodo interno (con inicio "base") que puede
+     * contener "code": número de separadores <= code
+     * DECISIÓN: Se recorren todas las claves sin salir antes; son como mucho
+     * 15 comparaciones sobre un mismo bloque contiguo de 64 bytes, y sumar el
+     * resultado de cada una no deja saltos que el procesador pueda predecir mal
+     */
+    private static int childIndex(int[] nodes, int base, int code) {
+        int count = nodes[base + COUNT];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            index += (nodes[base + i] <= code) ? 1 : 0;
+        }
+        return index;
+    }
+
+    /**
+     * Primera posición de la hoja (con inicio "base") con clave >= code
+     */
+    private static int lowerBound(int[] nodes, int base, int code) {
+        int count = nodes[base + COUNT];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            index += (nodes[base + i] < code) ? 1 : 0;
+        }
+        return index;
+    }
+
+    /**
+     * Hoja que contiene (o contendría) el código
+     */
+    private int findLeaf(int code) {
+        int[] nodes = this.nodes;
+        int node = root;
+        for (int level = height; level > 1; level--) {
+            int base = node << NODE_SHIFT;
+            node = nodes[base + CHILDREN + childIndex(nodes, base, code)];
+        }
+        return node;
+    }
+
+    // ======================== INSERCIÓN ========================
+
+    /**
+     * Inserta un código en el sistema
+     * DECISIÓN: Descenso iterativo guardando el camino; solo si la hoja está
+     * llena se parte y el separador sube por el camino mientras los padres
+     * también estén llenos
+     *
+     * COMPLEJIDAD: O(log n)
+     */
+    @Override
+    public void insert(int code) {
+        int node = root;
+        int depth = 0;
+        for (int level = height; level > 1; level--) {
+            int base = node << NODE_SHIFT;
+            int slot = childIndex(nodes, base, code);
+            path[depth] = node;
+            slots[depth++] = slot;
+            node = nodes[base + CHILDREN + slot];
+        }
+
+        int base = node << NODE_SHIFT;
+        int count = nodes[base + COUNT];
+        int pos = lowerBound(nodes, base, code);
+        if (pos < count && nodes[base + pos] == code) {
+            // DECISIÓN: No permitir duplicados (común en sistemas de inventario)
+            return;
+        }
+        size++;
+
+        if (count < KEY_CAPACITY) {
+            insertKey(node, pos, code);
+            return;
+        }
+
+        // Hoja llena: partir y subir el separador
+        boolean append = (node == tail && pos == KEY_CAPACITY);
+        int right = splitLeaf(node, pos, code, append);
+        propagate(depth, nodes[right << NODE_SHIFT], right, append);
+    }
+
+    /**
+     * Desplaza las claves y coloca "code" en la posición pos del nodo
+     */
+    private void insertKey(int node, int pos, int code) {
+        int base = node << NODE_SHIFT;
+        int count = nodes[base + COUNT];
+        System.arraycopy(nodes, base + pos, nodes, base + pos + 1, count - pos);
+        nodes[base + pos] = code;
+        nodes[base + COUNT] = count + 1;
+    }
+
+    /**
+     * Parte una hoja llena e inserta "code" en la mitad que le corresponde
+     * DECISIÓN: Si el código va al final de la última hoja (carga secuencial)
+     * la hoja izquierda se queda llena y la nueva empieza solo con él, así
+     * las cargas ordenadas dejan hojas al 100% en lugar de al 50%
+     *
+     * @return nueva hoja derecha (ya enlazada en la lista de hojas)
+     */
+    private int splitLeaf(int leaf, int pos, int code, boolean append) {
+        int right = allocate();
+        leafCount++;
+        int leafBase = leaf << NODE_SHIFT;
+        int rightBase = right << NODE_SHIFT;
+
+        if (append) {
+            nodes[rightBase] = code;
+            nodes[rightBase + COUNT] = 1;
+        } else {
+            int moved = KEY_CAPACITY - LEAF_SPLIT;
+            System.arraycopy(nodes, leafBase + LEAF_SPLIT, nodes, rightBase, moved);
+            nodes[rightBase + COUNT] = moved;
+            nodes[leafBase + COUNT] = LEAF_SPLIT;
+            if (pos <= LEAF_SPLIT) {
+                insertKey(leaf, pos, code);
+            } else {
+                insertKey(right, pos - LEAF_SPLIT, code);
+            }
+        }
+
+        // Enlazar la nueva hoja detrás de la partida
+        int next = nodes[leafBase + NEXT];
+        nodes[rightBase + PREV] = leaf;
+        nodes[rightBase + NEXT] = next;
+        if (next != NIL) {
+            nodes[(next << NODE_SHIFT) + PREV] = right;
+        } else {
+            tail = right;
+        }
+        nodes[leafBase + NEXT] = right;
+        return right;
+    }
+
+    /**
+     * Sube (separator, right) por el camino guardado hasta encontrar un padre
+     * con hueco; si la raíz también se parte, el árbol crece un nivel
+     */
+    private void propagate(int depth, int separator, int right, boolean append) {
+        while (depth > 0) {
+            int parent = path[--depth];
+            int slot = slots[depth];
+            int parentBase = parent << NODE_SHIFT;
+            int count = nodes[parentBase + COUNT];
+
+            if (count < KEY_CAPACITY) {
+                insertChild(parent, slot, separator, right);
+                return;
+            }
+
+            int sibling = allocate();
+            innerCount++;
+            int siblingBase = sibling << NODE_SHIFT;
+            if (append && slot == count) {
+                // Carga secuencial: el padre se queda lleno y el separador sube tal cual
+                nodes[siblingBase + CHILDREN] = right;
+            } else {
+                // 15 separadores: 7 se quedan, 1 sube y 7 pasan al hermano
+                int promoted = nodes[parentBase + INNER_SPLIT];
+                int moved = count - INNER_SPLIT - 1;
+                System.arraycopy(nodes, parentBase + INNER_SPLIT + 1, nodes, siblingBase, moved);
+                System.arraycopy(nodes, parentBase + CHILDREN + INNER_SPLIT + 1,
+                        nodes, siblingBase + CHILDREN, moved + 1);
+                nodes[siblingBase + COUNT] = moved;
+                nodes[parentBase + COUNT] = INNER_SPLIT;
+
+                if (slot <= INNER_SPLIT) {
+                    insertChild(parent, slot, separator, right);
+                } else {
+                    insertChild(sibling, slot - INNER_SPLIT - 1, separator, right);
+                }
+                separator = promoted;
+            }
+            right = sibling;
+        }
+
+        // La raíz se ha partido: nueva raíz con los dos nodos como hijos
+        int newRoot = allocate();
+        innerCount++;
+        int base = newRoot << NODE_SHIFT;
+        nodes[base] = separator;
+        nodes[base + COUNT] = 1;
+        nodes[base + CHILDREN] = root;
+        nodes[base + CHILDREN + 1] = right;
+        root = newRoot;
+        height++;
+    }
+
+    /**
+     * Coloca el separador en la clave "slot" y el nuevo hijo justo a la
+     * derecha del hijo que se partió (hijo slot + 1)
+     */
+    private void insertChild(int node, int slot, int separator, int child) {
+        int base = node << NODE_SHIFT;
+        int count = nodes[base + COUNT];
+        System.arraycopy(nodes, base + slot, nodes, base + slot + 1, count - slot);
+        System.arraycopy(nodes, base + CHILDREN + slot + 1, nodes, base + CHILDREN + slot + 2, count - slot);
+        nodes[base + slot] = separator;
+        nodes[base + CHILDREN + slot + 1] = child;
+        nodes[base + COUNT] = count + 1;
+    }
+
+    // ======================== BÚSQUEDA ========================
+
+    /**
+     * Busca un código específico en el sistema
+     *
+     * COMPLEJIDAD: O(log n), con un fallo de caché por nivel de ~log16(n)
+     */
+    @Override
+    public boolean search(int code) {
+        int base = findLeaf(code) << NODE_SHIFT;
+        int pos = lowerBound(nodes, base, code);
+        return pos < nodes[base + COUNT] && nodes[base + pos] == code;
+    }
+
+    // ======================== CONSULTAS POR RANGO ========================
+
+    /**
+     * Entrega en orden ascendente los códigos en [lo, hi] (ambos inclusive)
+     * DECISIÓN: Un único descenso hasta la hoja de "lo" y después avance
+     * secuencial por la lista de hojas
+     *
+     * COMPLEJIDAD: O(log n + k), con k códigos en el rango
+     */
+    public void rangeScan(int lo, int hi, IntConsumer action) {
+        if (lo > hi) {
+            return;
+        }
+        int leaf = findLeaf(lo);
+        int pos = lowerBound(nodes, leaf << NODE_SHIFT, lo);
+        while (leaf != NIL) {
+            int base = leaf << NODE_SHIFT;
+            int count = nodes[base + COUNT];
+            for (int i = pos; i < count; i++) {
+                int code = nodes[base + i];
+                if (code > hi) {
+                    return;
+                }
+                action.accept(code);
+            }
+            leaf = nodes[base + NEXT];
+            pos = 0;
+        }
+    }
+
+    // ======================== RECORRIDOS ========================
+
+    /**
+     * Muestra elementos en orden ascendente
+     * DECISIÓN: Basta con recorrer la lista de hojas, sin tocar los nodos internos
+     */
+    public void showAscending() {
+        showAscending(new CodeWriter(System.out));
+    }
+
+    public void showAscending(CodeWriter out) {
+        out.writeText("=== ORDEN ASCENDENTE ===\n");
+        for (int leaf = head; leaf != NIL; leaf = nodes[(leaf << NODE_SHIFT) + NEXT]) {
+            int base = leaf << NODE_SHIFT;
+            for (int i = 0; i < nodes[base + COUNT]; i++) {
+                out.writeCode(nodes[base + i]);
+            }
+        }
+        out.writeText("\n\n");
+        out.flush();
+    }
+
+    public void showDescending() {
+        showDescending(new CodeWriter(System.out));
+    }
+
+    public void showDescending(CodeWriter out) {
+        out.writeText("=== ORDEN DESCENDENTE ===\n");
+        for (int leaf = tail; leaf != NIL; leaf = nodes[(leaf << NODE_SHIFT) + PREV]) {
+            int base = leaf << NODE_SHIFT;
+            for (int i = nodes[base + COUNT] - 1; i >= 0; i--) {
+                out.writeCode(nodes[base + i]);
+            }
+        }
+        out.writeText("\n\n");
+        out.flush();
+    }
+
+    /**
+     * Muestra los nodos visitando primero padres, luego hijos (Pre-Order)
+     * DECISIÓN: Cada nodo se imprime entre corchetes; en los internos las
+     * claves son separadores (copias del menor código de cada hijo derecho)
+     */
+    public void showHierarchical() {
+        showHierarchical(new CodeWriter(System.out));
+    }
+
+    public void showHierarchical(CodeWriter out) {
+        out.writeText("=== RECORRIDO JERÁRQUICO (Padre->Hijos) ===\n");
+        preOrderTraversal(root, height, out);
+        out.writeText("\n\n");
+        out.flush();
+    }
+
+    private void preOrderTraversal(int node, int level, CodeWriter out) {
+        writeNode(node, out);
+        if (level > 1) {
+            int base = node << NODE_SHIFT;
+            for (int i = 0; i <= nodes[base + COUNT]; i++) {
+                preOrderTraversal(nodes[base + CHILDREN + i], level - 1, out);
+            }
+        }
+    }
+
+    /**
+     * Muestra los nodos nivel por nivel (Breadth-First), un nivel por línea
+     * DECISIÓN: Cada nivel se guarda en un int[] del tamaño exacto que
+     * suman los hijos del nivel anterior (sin Queue ni listas)
+     */
+    public void showByLevels() {
+        showByLevels(new CodeWriter(System.out));
+    }
+
+    public void showByLevels(CodeWriter out) {
+        out.writeText("=== RECORRIDO POR NIVELES ===\n");
+        if (size == 0) {
+            out.writeText("Árbol vacío\n");
+            out.flush();
+            return;
+        }
+
+        int[] level = {root};
+        for (int depth = height; depth >= 1; depth--) {
+            int children = 0;
+            for (int node : level) {
+                writeNode(node, out);
+                children += nodes[(node << NODE_SHIFT) + COUNT] + 1;
+            }
+            out.writeText("\n");
+
+            if (depth > 1) {
+                int[] next = new int[children];
+                int n = 0;
+                for (int node : level) {
+                    int base = node << NODE_SHIFT;
+                    for (int i = 0; i <= nodes[base + COUNT]; i++) {
+                        next[n++] = nodes[base + CHILDREN + i];
+                    }
+                }
+                level = next;
+            }
+        }
+        out.writeText("\n");
+        out.flush();
+    }
+
+    private void writeNode(int node, CodeWriter out) {
+        int base = node << NODE_SHIFT;
+        out.writeText("[ ");
+        for (int i = 0; i < nodes[base + COUNT]; i++) {
+            out.writeCode(nodes[base + i]);
+        }
+        out.writeText("] ");
+    }
+
+    // ======================== ITERADORES ========================
+
+    /**
+     * Iterador perezoso en orden ascendente sobre la lista de hojas
+     *
+     * El inventario no debe modificarse mientras se recorre
+     */
+    @Override
+    public PrimitiveIterator.OfInt ascendingIterator() {
+        return new LeafIterator(false);
+    }
+
+    /**
+     * Iterador perezoso en orden descendente sobre la lista de hojas
+     */
+    public PrimitiveIterator.OfInt descendingIterator() {
+        return new LeafIterator(true);
+    }
+
+    /**
+     * Recorre las hojas en un sentido u otro con un índice dentro de la hoja actual
+     */
+    private class LeafIterator implements PrimitiveIterator.OfInt {
+        private final boolean descending;
+        private int leaf;
+        private int index;
+
+        LeafIterator(boolean descending) {
+            this.descending = descending;
+            this.leaf = descending ? tail : head;
+            this.index = descending ? nodes[(leaf << NODE_SHIFT) + COUNT] - 1 : 0;
+            skipExhausted();
+        }
+
+        /**
+         * Salta a la siguiente hoja mientras la actual esté agotada
+         */
+        private void skipExhausted() {
+            while (leaf != NIL && (index < 0 || index >= nodes[(leaf << NODE_SHIFT) + COUNT])) {
+                leaf = nodes[(leaf << NODE_SHIFT) + (descending ? PREV : NEXT)];
+                if (leaf != NIL) {
+                    index = descending ? nodes[(leaf << NODE_SHIFT) + COUNT] - 1 : 0;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != NIL;
+        }
+
+        @Override
+        public int nextInt() {
+            if (leaf == NIL) {
+                throw new NoSuchElementException();
+            }
+            int code = nodes[(leaf << NODE_SHIFT) + index];
+            index += descending ? -1 : 1;
+            skipExhausted();
+            return code;
+        }
+    }
+
+    // ======================== MÉTODOS AUXILIARES ========================
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Niveles del árbol (1 mientras todos los códigos quepan en una hoja)
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLeafCount() {
+        return leafCount;
+    }
+
+    public int getInnerCount() {
+        return innerCount;
+    }
+
+    /**
+     * Bytes ocupados por el pool (sin la cabecera del array)
+     * DECISIÓN: Incluye la holgura de capacidad, como getPoolBytes de
+     * PooledInventorySystem: 128 bytes por nodo de hasta 15 códigos
+     */
+    public long getPoolBytes() {
+        return (long) nodes.length * Integer.BYTES;
+    }
+
+    @Override
+    public void showStats() {
+        System.out.println("=== ESTADÍSTICAS DEL SISTEMA ===");
+        System.out.println("Total de códigos: " + size);
+        System.out.println("Altura del árbol: " + height);
+        System.out.println("Hojas: " + leafCount + ", nodos internos: " + innerCount);
+        System.out.printf("Ocupación media de hojas: %.1f%%%n", 100.0 * size / ((long) leafCount * KEY_CAPACITY));
+        System.out.println("Bytes del pool: " + getPoolBytes());
+        System.out.println("\n");
+    }
+
+    // ======================== CLASE DE PRUEBA ========================
+
+    public static void main(String[] args) {
+        BPlusTreeInventorySystem inventory = new BPlusTreeInventorySystem();
+
+        int[] testData = {50, 30, 70, 20, 40, 60, 80, 10, 25, 35, 45};
+
+        System.out.println("=== DEMO DEL INVENTARIO SOBRE ÁRBOL B+ ===\n");
+
+        System.out.println("Insertando códigos: ");
+        for (int code : testData) {
+            System.out.print(code + " ");
+            inventory.insert(code);
+        }
+        System.out.println("\n");
+
+        // Suficientes códigos para que el árbol tenga varios niveles
+        for (int code = 100; code < 400; code += 3) {
+            inventory.insert(code);
+        }
+
+        inventory.showStats();
+        inventory.showAscending();
+        inventory.showDescending();
+        inventory.showHierarchical();
+        inventory.showByLevels();
+
+        System.out.println("=== PRUEBAS DE BÚSQUEDA ===");
+        int[] searchCodes = {50, 25, 100, 80, 15};
+        for (int code : searchCodes) {
+            boolean found = inventory.search(code);
+            System.out.println("Código " + code + ": " + (found ? "ENCONTRADO" : "NO ENCONTRADO"));
+        }
+        System.out.println();
+
+        System.out.println("=== CONSULTA POR RANGO [30, 130] ===");
+        inventory.rangeScan(30, 130, code -> System.out.print(code + " "));
+        System.out.println("\n");
+    }
+}
@@ -0,0 +1,184 @@
+package inventory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Salida con búfer para volcar códigos de inventario
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Los códigos se formatean directamente como ASCII en un byte[] reutilizable,
+ *    sin crear un String por código
+ * 2. Destino enchufable: OutputStream o WritableByteChannel; solo se escribe en
+ *    él cuando el búfer se llena o en flush()
+ * 3. Los errores de E/S se relanzan como UncheckedIOException para que los
+ *    recorridos mantengan su firma sin "throws"
+ * 4. No cierra el destino: quien lo abrió (p. ej. System.out) decide
+ *
+ */
+public class CodeWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /** Signo + 10 dígitos + separador */
+    private static final int MAX_CODE_BYTES = 12;
+
+    // Tablas de dos dígitos: DIGIT_TENS[r] y DIGIT_ONES[r] para r en [0, 100)
+    private static final byte[] DIGIT_TENS = new byte[100];
+    private static final byte[] DIGIT_ONES = new byte[100];
+
+    static {
+        for (int r = 0; r < 100; r++) {
+            DIGIT_TENS[r] = (byte) ('0' + r / 10);
+            DIGIT_ONES[r] = (byte) ('0' + r % 10);
+        }
+    }
+
+    private final OutputStream stream;          // Destino si es un stream
+    private final WritableByteChannel channel;  // Destino si es un canal
+    private final byte[] buffer;
+    private final ByteBuffer channelView;       // Vista del búfer para el canal
+    private int position;                       // Bytes pendientes en el búfer
+
+    public CodeWriter(OutputStream stream) {
+        this(stream, null, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CodeWriter(WritableByteChannel channel) {
+        this(null, channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CodeWriter(OutputStream stream, int bufferSize) {
+        this(stream, null, bufferSize);
+    }
+
+    public CodeWriter(WritableByteChannel channel, int bufferSize) {
+        this(null, channel, bufferSize);
+    }
+
+    private CodeWriter(OutputStream stream, WritableByteChannel channel, int bufferSize) {
+        if (stream == null && channel == null) {
+            throw new NullPointerException("Destino nulo");
+        }
+        if (bufferSize < MAX_CODE_BYTES) {
+            throw new IllegalArgumentException("Búfer demasiado pequeño: " + bufferSize);
+        }
+        this.stream = stream;
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+        this.channelView = (channel != null) ? ByteBuffer.wrap(buffer) : null;
+        this.position = 0;
+    }
+
+    /**
+     * Escribe un código seguido de un espacio (mismo formato que los recorridos)
+     * DECISIÓN: Se trabaja en negativo, como Integer.toString, para que
+     * Integer.MIN_VALUE no desborde al cambiar de signo
+     */
+    public void writeCode(int code) {
+        if (buffer.length - position < MAX_CODE_BYTES) {
+            drain();
+        }
+        int pos = position;
+        int i = code;
+        if (i < 0) {
+            buffer[pos++] = '-';
+        } else {
+            i = -i;
+        }
+
+        int end = pos + digitCount(i);
+        int charPos = end;
+
+        // Dos dígitos por iteración
+        while (i <= -100) {
+            int q = i / 100;
+            int r = (q * 100) - i;
+            i = q;
+            buffer[--charPos] = DIGIT_ONES[r];
+            buffer[--charPos] = DIGIT_TENS[r];
+        }
+
+        // Uno o dos dígitos finales
+        int q = i / 10;
+        buffer[--charPos] = (byte) ('0' + (q * 10) - i);
+        if (q < 0) {
+            buffer[--charPos] = (byte) ('0' - q);
+        }
+
+        buffer[end] = ' ';
+        position = end + 1;
+    }
+
+    /**
+     * Número de dígitos de un valor no positivo
+     */
+    private static int digitCount(int negative) {
+        int p = -10;
+        for (int i = 1; i < 10; i++) {
+            if (negative > p) {
+                return i;
+            }
+            p = 10 * p;
+        }
+        return 10;
+    }
+
+    /**
+     * Escribe texto libre (cabeceras, saltos de línea) en UTF-8
+     */
+    public void writeText(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (position == buffer.length) {
+                drain();
+            }
+            int chunk = Math.min(bytes.length - offset, buffer.length - position);
+            System.arraycopy(bytes, offset, buffer, position, chunk);
+            position += chunk;
+            offset += chunk;
+        }
+    }
+
+    /**
+     * Vacía el búfer y el destino
+     */
+    public void flush() {
+        drain();
+        if (stream != null) {
+            try {
+                stream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Envía los bytes pendientes al destino
+     */
+    private void drain() {
+        if (position == 0) {
+            return;
+        }
+        try {
+            if (stream != null) {
+                stream.write(buffer, 0, position);
+            } else {
+                channelView.clear().limit(position);
+                while (channelView.hasRemaining()) {
+                    channel.write(channelView);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,121 @@
+package inventory;
+
+/**
+ * Instantánea de solo lectura de los códigos en disposición de Eytzinger
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Árbol binario completo guardado en anchura (BFS) dentro de un int[]:
+ *    los hijos de la posición i están en 2i y 2i+1, sin punteros
+ * 2. Búsqueda sin saltos: el descenso calcula el siguiente índice con
+ *    aritmética en lugar de un if, así no hay fallos de predicción
+ * 3. Precarga: los 16 descendientes a 4 niveles de i ocupan posiciones
+ *    contiguas (16i..16i+15), una línea de caché de 64 bytes; la búsqueda la
+ *    lee por adelantado, lo más parecido a un prefetch que permite la JVM
+ * 4. 4 bytes por código, frente a ~32 de un AVLNode
+ * 5. Como mucho MAX_SIZE códigos: así 2i + 1 cabe siempre en un int; el índice
+ *    de precarga 16i se calcula en long porque desborda mucho antes (i > 2^27)
+ *
+ */
+public class EytzingerLayout implements FrozenSnapshot {
+
+    /**
+     * Máximo de códigos: con size < 2^30 los índices 2i y 2i + 1 no desbordan
+     */
+    public static final int MAX_SIZE = (1 << 30) - 1;
+
+    private final int[] tree;   // Posición 0 sin usar; raíz en la 1
+    private final int size;
+
+    /**
+     * Construye la instantánea a partir de sorted[0, count), ordenado y sin duplicados
+     *
+     * COMPLEJIDAD: O(n)
+     */
+    public EytzingerLayout(int[] sorted, int count) {
+        if (count > MAX_SIZE) {
+            throw new IllegalArgumentException("Demasiados códigos para la disposición Eytzinger: " + count);
+        }
+        this.size = count;
+        this.tree = new int[count + 1];
+        fill(sorted, 0, 1);
+    }
+
+    /**
+     * Recorrido in-order del árbol implícito copiando la secuencia ordenada
+     *
+     * @return siguiente posición de sorted por consumir
+     */
+    private int fill(int[] sorted, int next, int i) {
+        if (i <= size) {
+            next = fill(sorted, next, 2 * i);
+            tree[i] = sorted[next++];
+            next = fill(sorted, next, 2 * i + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Indica si el código está en la instantánea
+     * DECISIÓN: Se baja siempre hasta salir del array (mismo número de pasos
+     * para cualquier código) y luego se deshacen los giros a la derecha
+     * finales para recuperar el menor elemento >= code. En cada paso se lee
+     * la línea de caché de los descendientes a 4 niveles, de modo que ya está
+     * en camino cuando el descenso llega a ella
+     *
+     * COMPLEJIDAD: O(log n)
+     */
+    @Override
+    public boolean contains(int code) {
+        int i = 1;
+        int prefetched = 0;
+        while (i <= size) {
+            prefetched += tree[prefetchIndex(i, size)];
+            // 1 si tree[i] < code, 0 si no (signo de la resta en 64 bits)
+            i = 2 * i + (int) (((long) tree[i] - code) >>> 63);
+        }
+        // Quitar los unos finales (giros a la derecha) y el último cero
+        i >>>= Integer.numberOfTrailingZeros(~i) + 1;
+        boolean found = i != 0 && tree[i] == code;
+
+        // Las lecturas adelantadas solo se usan en una comprobación casi nunca
+        // cierta (y siempre correcta) para que el JIT no las elimine
+        return found || (prefetched == code && containsSlow(code));
+    }
+
+    /**
+     * Posición de los descendientes de i a 4 niveles, acotada al último código
+     * DECISIÓN: 16i en long: en int desborda a negativo con i > 2^27 (~134M
+     * códigos) y Math.min lo dejaría pasar como índice
+     */
+    static int prefetchIndex(int i, int size) {
+        return (int) Math.min(16L * i, size);
+    }
+
+    /**
+     * Búsqueda convencional con saltos sobre la misma disposición
+     */
+    private boolean containsSlow(int code) {
+        int i = 1;
+        while (i <= size) {
+            if (tree[i] == code) {
+                return true;
+            }
+            i = (code < tree[i]) ? 2 * i : 2 * i + 1;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Bytes ocupados por el array de la instantánea
+     */
+    @Override
+    public long getBytes() {
+        return (long) tree.length * Integer.BYTES;
+    }
+}
@@ -0,0 +1,26 @@
+package inventory;
+
+/**
+ * Instantánea de solo lectura de los códigos de un inventario congelado
+ *
+ * DECISIÓN: Interfaz mínima para que InventorySystem pueda elegir la
+ * disposición en memoria (Eytzinger, van Emde Boas) sin cambiar search()
+ *
+ */
+public interface FrozenSnapshot {
+
+    /**
+     * Indica si el código está en la instantánea
+     */
+    boolean contains(int code);
+
+    /**
+     * Número de códigos de la instantánea
+     */
+    int size();
+
+    /**
+     * Bytes ocupados por la instantánea
+     */
+    long getBytes();
+}
@@ -0,0 +1,91 @@
+package inventory;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Contrato común de los motores de inventario
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Solo las operaciones que todos los motores ofrecen con la misma
+ *    semántica: alta sin duplicados, consulta, recorrido ordenado, tamaño y
+ *    estadísticas; lo específico de cada motor (rangos, congelado, bajas...)
+ *    sigue en su clase concreta
+ * 2. Recorrido ordenado mediante PrimitiveIterator.OfInt, sin boxing
+ * 3. La elección de motor se centraliza en Engine, de modo que un almacén o un
+ *    benchmark puede cambiar de estructura con un solo parámetro
+ *
+ */
+public interface InventoryIndex {
+
+    /**
+     * Inserta un código (los duplicados se ignoran)
+     */
+    void insert(int code);
+
+    /**
+     * Indica si el código está en el inventario
+     */
+    boolean search(int code);
+
+    /**
+     * Iterador perezoso en orden ascendente
+     *
+     * El inventario no debe modificarse mientras se recorre
+     */
+    PrimitiveIterator.OfInt ascendingIterator();
+
+    /**
+     * Número de códigos distintos
+     */
+    int getSize();
+
+    default boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    /**
+     * Muestra estadísticas propias del motor por la salida estándar
+     */
+    void showStats();
+
+    /**
+     * Motores disponibles
+     * DECISIÓN: Cada motor gana en un tipo de carga distinto
+     * - AVL: el más completo (rangos, orden, división/unión, congelado)
+     * - POOLED_AVL: el mismo AVL sobre arrays primitivos (~13 bytes por
+     *   código frente a 32); para catálogos grandes con poca memoria
+     * - RED_BLACK: menos rotaciones por inserción que el AVL, a cambio de
+     *   árboles algo más altos; para cargas con muchas altas
+     * - SKIP_LIST: sin rotaciones, inserción local y sencilla
+     * - B_PLUS_TREE: nodos de una línea de caché y hojas enlazadas; para
+     *   catálogos grandes y recorridos por rango
+     */
+    enum Engine {
+        AVL,
+        POOLED_AVL,
+        RED_BLACK,
+        SKIP_LIST,
+        B_PLUS_TREE
+    }
+
+    /**
+     * Crea un inventario vacío con el motor indicado
+     */
+    static InventoryIndex create(Engine engine) {
+        switch (engine) {
+            case AVL:
+                return new InventorySystem();
+            case POOLED_AVL:
+                return new PooledInventorySystem();
+            case RED_BLACK:
+                return new RedBlackInventorySystem();
+            case SKIP_LIST:
+                return new SkipListInventorySystem();
+            case B_PLUS_TREE:
+                return new BPlusTreeInventorySystem();
+            default:
+                throw new IllegalArgumentException("Motor desconocido: " + engine);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package inventory;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores operativos de un InventorySystem
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. LongAdder (contadores repartidos en celdas por hilo): incrementar no
+ *    provoca contención aunque varios lectores concurrentes busquen a la vez,
+ *    y la suma solo se calcula al consultar
+ * 2. Se activan y desactivan en caliente (InventorySystem.enableMetrics /
+ *    disableMetrics) sin reconstruir el inventario; desactivados no existen y
+ *    el camino caliente solo paga la lectura de un campo normal (no volatile)
+ *    y una comparación con null (ver MetricsOverheadBenchmark)
+ * 3. Un solo incremento por operación: cada búsqueda suma 1 a su cubo de
+ *    profundidad (separado en aciertos y fallos) y cada alta al de su longitud
+ *    de camino; totales, comparaciones, medias y máximos se derivan de los
+ *    histogramas al consultar. Cada incremento es una instrucción atómica que
+ *    impide solapar los fallos de caché de búsquedas consecutivas, así que
+ *    añadir más contadores por búsqueda se nota en la latencia
+ * 4. Cubren el árbol de punteros: las búsquedas atendidas por una instantánea
+ *    congelada no se cuentan
+ *
+ */
+public final class InventoryMetrics {
+
+    /**
+     * Casos de rotación del balanceado AVL en la inserción
+     */
+    public enum Rotation {
+        LL,     // Izquierdo-izquierdo: rotación simple a la derecha
+        RR,     // Derecho-derecho: rotación simple a la izquierda
+        LR,     // Izquierdo-derecho: doble (izquierda + derecha)
+        RL      // Derecho-izquierdo: doble (derecha + izquierda)
+    }
+
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    /**
+     * Cubos de los histogramas: uno por número de nodos
+     * DECISIÓN: Un AVL de códigos int no supera altura 45 (ver MAX_HEIGHT)
+     */
+    static final int DEPTH_BUCKETS = 49;
+
+    private final LongAdder[] rotations = newAdders(ROTATIONS.length);
+    private final LongAdder[] hitDepths = newAdders(DEPTH_BUCKETS);     // Búsquedas con acierto
+    private final LongAdder[] missDepths = newAdders(DEPTH_BUCKETS);    // Búsquedas sin acierto
+    private final LongAdder[] insertPaths = newAdders(DEPTH_BUCKETS);
+
+    InventoryMetrics() {
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    // ======================== REGISTRO ========================
+
+    void recordRotation(Rotation rotation) {
+        rotations[rotation.ordinal()].increment();
+    }
+
+    /**
+     * Una búsqueda que visitó "depth" nodos
+     */
+    void recordSearch(int depth, boolean found) {
+        (found ? hitDepths : missDepths)[depth].increment();
+    }
+
+    /**
+     * Un alta cuyo descenso recorrió "pathLength" nodos (sin contar el nuevo)
+     */
+    void recordInsert(int pathLength) {
+        insertPaths[pathLength].increment();
+    }
+
+    /**
+     * Pone todos los contadores a cero
+     * DECISIÓN: No es atómico respecto a las operaciones en curso (como LongAdder.reset)
+     */
+    public void reset() {
+        for (LongAdder[] adders : new LongAdder[][] {rotations, hitDepths, missDepths, insertPaths}) {
+            for (LongAdder adder : adders) {
+                adder.reset();
+            }
+        }
+    }
+
+    // ======================== CONSULTAS ========================
+
+    public long getRotations(Rotation rotation) {
+        return rotations[rotation.ordinal()].sum();
+    }
+
+    public long getTotalRotations() {
+        return total(rotations);
+    }
+
+    public long getSearches() {
+        return total(hitDepths) + total(missDepths);
+    }
+
+    public long getSearchHits() {
+        return total(hitDepths);
+    }
+
+    /**
+     * Comparaciones de códigos de todas las búsquedas
+     * DECISIÓN: Cada nodo visitado compara por igualdad y, si no coincide, por
+     * orden: un acierto a profundidad d hace 2d - 1 y un fallo 2d
+     */
+    public long getSearchComparisons() {
+        long comparisons = 0;
+        for (int depth = 1; depth < DEPTH_BUCKETS; depth++) {
+            comparisons += (2L * depth - 1) * hitDepths[depth].sum() + 2L * depth * missDepths[depth].sum();
+        }
+        return comparisons;
+    }
+
+    public double getComparisonsPerSearch() {
+        long count = getSearches();
+        return (count == 0) ? 0 : (double) getSearchComparisons() / count;
+    }
+
+    /**
+     * Búsquedas que visitaron exactamente "depth" nodos (0 = árbol vacío)
+     */
+    public long getSearchesAtDepth(int depth) {
+        if (depth < 0 || depth >= DEPTH_BUCKETS) {
+            return 0;
+        }
+        return hitDepths[depth].sum() + missDepths[depth].sum();
+    }
+
+    public long getInserts() {
+        return total(insertPaths);
+    }
+
+    public double getMeanInsertPathLength() {
+        long count = 0;
+        long nodes = 0;
+        for (int length = 0; length < DEPTH_BUCKETS; length++) {
+            long inserts = insertPaths[length].sum();
+            count += inserts;
+            nodes += length * inserts;
+        }
+        return (count == 0) ? 0 : (double) nodes / count;
+    }
+
+    public int getMaxInsertPathLength() {
+        for (int length = DEPTH_BUCKETS - 1; length > 0; length--) {
+            if (insertPaths[length].sum() > 0) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    private static long total(LongAdder[] adders) {
+        long total = 0;
+        for (LongAdder adder : adders) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    // ======================== SALIDA ========================
+
+    /**
+     * Imprime los contadores; del histograma solo las profundidades con búsquedas
+     */
+    public void show(PrintStream out) {
+        out.println("Rotaciones en inserción: LL=" + getRotations(Rotation.LL)
+                + " RR=" + getRotations(Rotation.RR)
+                + " LR=" + getRotations(Rotation.LR)
+                + " RL=" + getRotations(Rotation.RL)
+                + " (total " + getTotalRotations() + ")");
+        out.printf("Altas: %d, camino medio %.2f nodos, máximo %d%n",
+                getInserts(), getMeanInsertPathLength(), getMaxInsertPathLength());
+        long total = getSearches();
+        out.printf("Búsquedas: %d (%d con acierto), %.2f comparaciones por búsqueda%n",
+                total, getSearchHits(), getComparisonsPerSearch());
+        if (total > 0) {
+            out.println("Profundidad de búsqueda (nodos visitados):");
+            for (int depth = 0; depth < DEPTH_BUCKETS; depth++) {
+                long count = getSearchesAtDepth(depth);
+                if (count > 0) {
+                    out.printf("  %2d: %d (%.1f %%)%n", depth, count, 100.0 * count / total);
+                }
+            }
+        }
+    }
+}
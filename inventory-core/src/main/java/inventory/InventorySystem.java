@@ -0,0 +1,2110 @@
+package inventory;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sistema de Inventario vía Árbol AVL (Auto-balanceado)
+ * 
+ * DECISIONES DE DISEÑO:
+ * 
+ * 1. Árbol AVL: Garantiza O(log n) en todas las operaciones
+ * 2. Auto-balanceado: Evita complejidad O(n) del BST básico
+ * 3. Implementación desde cero: Cumple la restricción de no usar estructuras predefinidas
+ * 
+ */
+public class InventorySystem implements InventoryIndex {
+    
+    /**
+     * Nodo interno del árbol AVL
+     * 
+     * Clase interna para encapsulación
+     * 
+     * Solo el InventorySystem puede crear/modificar nodos
+     * 
+     * DECISIÓN: Estática para no arrastrar una referencia oculta al
+     * InventorySystem en cada nodo (4 bytes que ahora ocupa subtreeSize)
+     */
+    private static class AVLNode {
+        int code;           // Código del producto
+        AVLNode left;       // Hijo izquierdo (menores)
+        AVLNode right;      // Hijo derecho (mayores)
+        int height;         // Altura para balanceado AVL
+        int subtreeSize;    // Nodos del subárbol (para consultas por rango)
+        
+        public AVLNode(int code) {
+            this.code = code;
+            this.left = null;
+            this.right = null;
+            this.height = 1;    // Nodo hoja tiene altura 1
+            this.subtreeSize = 1;
+        }
+    }
+    
+    /**
+     * Altura máxima de un AVL de códigos int
+     * DECISIÓN: Un AVL de altura h tiene al menos Fib(h+2)-1 nodos, así que
+     * con como mucho 2^32 códigos distintos la altura no supera 45
+     */
+    private static final int MAX_HEIGHT = 48;
+    
+    /**
+     * Tamaño de rango por debajo del cual la carga paralela construye en secuencial
+     * DECISIÓN: ~8K nodos amortizan de sobra el coste de crear una tarea
+     */
+    public static final int DEFAULT_PARALLEL_CUTOFF = 1 << 13;
+    
+    /**
+     * Tamaño de grupo por defecto para searchInterleaved
+     * DECISIÓN: ~10-20 fallos de caché en vuelo es lo que admiten los núcleos
+     * actuales (line fill buffers); más búsquedas solo añaden trabajo de control
+     */
+    public static final int DEFAULT_INTERLEAVE_GROUP = 16;
+    
+    /**
+     * Nodos reciclables que se conservan aunque el inventario sea pequeño
+     * DECISIÓN: Por encima de este mínimo la lista libre no supera "size", de
+     * modo que una baja masiva sí devuelve memoria al GC
+     */
+    private static final int MIN_FREE_NODES = 1024;
+    
+    private AVLNode root;       // Raíz del árbol
+    private int size;           // Contador de elementos (para estadísticas)
+    private int minCode;        // Menor código (válido si size > 0)
+    private int maxCode;        // Mayor código (válido si size > 0)
+    private final AVLNode[] path = new AVLNode[MAX_HEIGHT];  // Camino de descenso reutilizable
+    private AVLNode freeList;   // Nodos eliminados listos para reutilizar (enlazados por "right")
+    private int freeCount;      // Longitud de freeList
+    private FrozenSnapshot frozen;  // Instantánea de solo lectura (null si no está congelado)
+    private InventoryMetrics metrics;   // Contadores operativos (null si desactivados)
+    
+    /**
+     * Constructor
+     * Inicialización simple y clara
+     */
+    public InventorySystem() {
+        this.root = null;
+        this.size = 0;
+    }
+    
+    // MÉTODOS DE UTILIDAD AVL
+    
+    /**
+     * Obtiene la altura de un nodo
+     * Método auxiliar para manejar nulos de forma segura
+     */
+    private int getHeight(AVLNode node) {
+        return (node == null) ? 0 : node.height;
+    }
+    
+    /**
+     * Calcula el factor de balance de un nodo
+     * Factor de balance = altura(izquierdo) - altura(derecho)
+     * - Positivo: árbol inclinado hacia la izquierda
+     * - Negativo: árbol inclinado hacia la derecha
+     * - AVL requiere que esté en el intervalo [-1, 1]
+     */
+    private int getBalance(AVLNode node) {
+        return (node == null) ? 0 : (getHeight(node.left) - getHeight(node.right));
+    }
+    
+    /**
+     * Obtiene el número de nodos de un subárbol (0 si es nulo)
+     */
+    private int getSubtreeSize(AVLNode node) {
+        return (node == null) ? 0 : node.subtreeSize;
+    }
+    
+    /**
+     * Actualiza la altura de un nodo basado en sus hijos
+     * DECISIÓN: Altura = 1 + máximo(altura_izquierdo, altura_derecho); el
+     * tamaño del subárbol se recalcula en el mismo sitio, así rotaciones y
+     * construcciones masivas lo mantienen sin código adicional
+     */
+    private void updateHeight(AVLNode node) {
+        if (node != null) {
+            node.height = 1 + Math.max(getHeight(node.left), getHeight(node.right));
+            node.subtreeSize = 1 + getSubtreeSize(node.left) + getSubtreeSize(node.right);
+        }
+    }
+    
+    // ======================== ROTACIONES AVL ========================
+    
+    /**
+     * Rotación simple a la derecha
+     * DECISIÓN: Corrige desequilibrio izquierdo-izquierdo
+     * 
+     * Antes:     y          Después:    x
+     *           / \                    / \
+     *          x   C                  A   y
+     *         / \                        / \
+     *        A   B                      B   C
+     */
+    private AVLNode rotateRight(AVLNode y) {
+        AVLNode x = y.left;
+        AVLNode B = x.right;
+        
+        // Realizar rotación
+        x.right = y;
+        y.left = B;
+        
+        // Actualizar alturas (orden importante: primero y, luego x)
+        updateHeight(y);
+        updateHeight(x);
+        
+        return x;   // Nueva raíz del subárbol
+    }
+    
+    /**
+     * Rotación simple a la izquierda
+     * DECISIÓN: Corrige desequilibrio derecho-derecho
+     */
+    private AVLNode rotateLeft(AVLNode x) {
+        AVLNode y = x.right;
+        AVLNode B = y.left;
+        
+        // Realizar rotación
+        y.left = x;
+        x.right = B;
+        
+        // Actualizar alturas
+        updateHeight(x);
+        updateHeight(y);
+        
+        return y;   // Nueva raíz del subárbol
+    }
+    
+    // ======================== INSERCIÓN ========================
+    
+    /**
+     * Inserta un código en el sistema
+     * DECISIÓN: Método público basado en el método iterativo privado "insertAVL"
+     */
+    @Override
+    public void insert(int code) {
+        thaw();
+        insertAVL(code);
+    }
+    
+    /**
+     * Inserción iterativa con balanceado AVL
+     * DECISIÓN: Descenso sin recursión registrando el camino en "path"
+     * (preasignado, sin reservas por inserción) y subida que se detiene
+     * en cuanto la altura de un ancestro no cambia o tras la primera
+     * rotación, porque a partir de ahí ningún ancestro puede variar
+     * 
+     * COMPLEJIDAD: O(log n) garantizado por el balanceado; la subida es
+     * O(1) amortizado
+     */
+    private void insertAVL(int code) {
+        InventoryMetrics m = metrics;
+        if (root == null) {
+            root = newNode(code);
+            size++;
+            minCode = code;
+            maxCode = code;
+            if (m != null) {
+                m.recordInsert(0);
+            }
+            return;
+        }
+        
+        // PASO 1: Descenso BST normal registrando el camino
+        // DECISIÓN: El tamaño de cada ancestro se incrementa al bajar, porque la
+        // subida puede detenerse antes de llegar a la raíz; si resulta ser un
+        // duplicado se deshace
+        int depth = 0;
+        AVLNode node = root;
+        while (node != null) {
+            if (code == node.code) {
+                // DECISIÓN: No permitir duplicados (común en sistemas de inventario)
+                for (int i = 0; i < depth; i++) {
+                    path[i].subtreeSize--;
+                }
+                return;
+            }
+            node.subtreeSize++;
+            path[depth++] = node;
+            node = (code < node.code) ? node.left : node.right;
+        }
+        
+        if (m != null) {
+            m.recordInsert(depth);
+        }
+        
+        AVLNode parent = path[depth - 1];
+        if (code < parent.code) {
+            parent.left = newNode(code);
+        } else {
+            parent.right = newNode(code);
+        }
+        size++;
+        
+        // Mantener los extremos en caché para first()/last()
+        if (code < minCode) {
+            minCode = code;
+        } else if (code > maxCode) {
+            maxCode = code;
+        }
+        
+        // PASO 2: Subir por el camino actualizando alturas
+        for (int i = depth - 1; i >= 0; i--) {
+            node = path[i];
+            int oldHeight = node.height;
+            updateHeight(node);
+            
+            // PASO 3: Obtener factor de balance
+            int balance = getBalance(node);
+            
+            // PASO 4: Realizar rotaciones si es necesario
+            AVLNode subtree = node;
+            
+            InventoryMetrics.Rotation rotation = null;
+            
+            // Caso Izquierdo-Izquierdo
+            if (balance > 1 && code < node.left.code) {
+                subtree = rotateRight(node);
+                rotation = InventoryMetrics.Rotation.LL;
+            }
+            // Caso Derecho-Derecho
+            else if (balance < -1 && code > node.right.code) {
+                subtree = rotateLeft(node);
+                rotation = InventoryMetrics.Rotation.RR;
+            }
+            // Caso Izquierdo-Derecho
+            else if (balance > 1 && code > node.left.code) {
+                node.left = rotateLeft(node.left);
+                subtree = rotateRight(node);
+                rotation = InventoryMetrics.Rotation.LR;
+            }
+            // Caso Derecho-Izquierdo
+            else if (balance < -1 && code < node.right.code) {
+                node.right = rotateRight(node.right);
+                subtree = rotateLeft(node);
+                rotation = InventoryMetrics.Rotation.RL;
+            }
+            
+            if (subtree != node) {
+                // Tras rotar, el subárbol recupera su altura previa: parar
+                replaceChild(i, node, subtree);
+                if (m != null) {
+                    m.recordRotation(rotation);
+                }
+                return;
+            }
+            if (node.height == oldHeight) {
+                return;     // Altura sin cambios: los ancestros no varían
+            }
+        }
+    }
+    
+    /**
+     * Engancha "replacement" en el lugar que ocupaba "node" (path[depth])
+     */
+    private void replaceChild(int depth, AVLNode node, AVLNode replacement) {
+        if (depth == 0) {
+            root = replacement;
+        } else if (path[depth - 1].left == node) {
+            path[depth - 1].left = replacement;
+        } else {
+            path[depth - 1].right = replacement;
+        }
+    }
+    
+    // ======================== ELIMINACIÓN ========================
+    
+    /**
+     * Elimina un código del sistema (producto descatalogado)
+     * DECISIÓN: Mismo esquema iterativo que la inserción: descenso guardando
+     * el camino y subida rebalanceando. A diferencia de la inserción, una
+     * rotación puede reducir la altura del subárbol, así que la subida solo
+     * se detiene cuando la altura deja de cambiar
+     * 
+     * COMPLEJIDAD: O(log n)
+     * 
+     * @return true si el código existía
+     */
+    public boolean remove(int code) {
+        thaw();
+        
+        // PASO 1: Localizar el nodo registrando el camino
+        int depth = 0;
+        AVLNode node = root;
+        while (node != null && node.code != code) {
+            path[depth++] = node;
+            node = (code < node.code) ? node.left : node.right;
+        }
+        if (node == null) {
+            return false;
+        }
+        
+        // PASO 2: Con dos hijos, el sucesor (mínimo del subárbol derecho)
+        // ocupa su lugar y es el sucesor quien se desengancha
+        AVLNode target = node;
+        if (node.left != null && node.right != null) {
+            path[depth++] = node;
+            target = node.right;
+            while (target.left != null) {
+                path[depth++] = target;
+                target = target.left;
+            }
+            node.code = target.code;
+        }
+        
+        // PASO 3: Desenganchar el nodo (tiene como mucho un hijo)
+        AVLNode child = (target.left != null) ? target.left : target.right;
+        replaceChild(depth, target, child);
+        size--;
+        recycle(target);
+        
+        // Todos los ancestros pierden un nodo, aunque la subida se detenga antes
+        for (int i = 0; i < depth; i++) {
+            path[i].subtreeSize--;
+        }
+        
+        // PASO 4: Subir por el camino rebalanceando
+        for (int i = depth - 1; i >= 0; i--) {
+            node = path[i];
+            int oldHeight = node.height;
+            updateHeight(node);
+            int balance = getBalance(node);
+            AVLNode subtree = node;
+            
+            // Caso Izquierdo-Izquierdo
+            if (balance > 1 && getBalance(node.left) >= 0) {
+                subtree = rotateRight(node);
+            }
+            // Caso Izquierdo-Derecho
+            else if (balance > 1) {
+                node.left = rotateLeft(node.left);
+                subtree = rotateRight(node);
+            }
+            // Caso Derecho-Derecho
+            else if (balance < -1 && getBalance(node.right) <= 0) {
+                subtree = rotateLeft(node);
+            }
+            // Caso Derecho-Izquierdo
+            else if (balance < -1) {
+                node.right = rotateRight(node.right);
+                subtree = rotateLeft(node);
+            }
+            
+            if (subtree != node) {
+                replaceChild(i, node, subtree);
+            }
+            if (subtree.height == oldHeight) {
+                break;      // Altura sin cambios: los ancestros no varían
+            }
+        }
+        
+        // PASO 5: Refrescar los extremos en caché si se eliminó uno
+        if (size > 0) {
+            if (code == minCode) {
+                minCode = leftmost(root).code;
+            }
+            if (code == maxCode) {
+                maxCode = rightmost(root).code;
+            }
+        }
+        return true;
+    }
+    
+    private AVLNode leftmost(AVLNode node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+    
+    private AVLNode rightmost(AVLNode node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node;
+    }
+    
+    /**
+     * Obtiene un nodo hoja, reutilizando uno eliminado si lo hay
+     * DECISIÓN: En cargas con altas y bajas continuas evita crear basura
+     */
+    private AVLNode newNode(int code) {
+        AVLNode node = freeList;
+        if (node == null) {
+            return new AVLNode(code);
+        }
+        freeList = node.right;
+        freeCount--;
+        node.code = code;
+        node.left = null;
+        node.right = null;
+        node.height = 1;
+        node.subtreeSize = 1;
+        return node;
+    }
+    
+    /**
+     * Devuelve un nodo eliminado a la lista libre (si cabe)
+     * DECISIÓN: Si el inventario ha encogido por debajo de la lista libre, se
+     * suelta además un nodo reciclado; como size baja de uno en uno, la lista
+     * vuelve a su límite sin recorrerla
+     */
+    private void recycle(AVLNode node) {
+        int limit = Math.max(MIN_FREE_NODES, size);
+        if (freeCount < limit) {
+            node.left = null;
+            node.right = freeList;
+            freeList = node;
+            freeCount++;
+        } else if (freeCount > limit) {
+            AVLNode released = freeList;
+            freeList = released.right;
+            released.right = null;
+            freeCount--;
+        }
+    }
+    
+    // ======================== DIVISIÓN Y UNIÓN ========================
+    
+    /**
+     * Divide el inventario en dos: códigos menores que "pivot" y códigos
+     * mayores o iguales (p. ej. para trasladar una banda a otro almacén)
+     * DECISIÓN: Se reutilizan los nodos existentes mediante joins AVL en lugar
+     * de reinsertar; este inventario queda vacío tras la llamada
+     * 
+     * COMPLEJIDAD: O(log n)
+     * 
+     * @return {menores que pivot, mayores o iguales que pivot}
+     */
+    public InventorySystem[] split(int pivot) {
+        AVLNode[] parts = new AVLNode[2];
+        splitTree(root, pivot, parts);
+        
+        InventorySystem lower = new InventorySystem();
+        InventorySystem higher = new InventorySystem();
+        lower.adoptTree(parts[0]);
+        higher.adoptTree(parts[1]);
+        clearTree();
+        return new InventorySystem[]{lower, higher};
+    }
+    
+    /**
+     * Une dos inventarios disjuntos y ordenados (todo "lower" < todo "higher")
+     * DECISIÓN: El mayor código de "lower" se separa y sirve de clave para un
+     * único join AVL; ambos inventarios quedan vacíos tras la llamada
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public static InventorySystem join(InventorySystem lower, InventorySystem higher) {
+        if (lower == higher) {
+            throw new IllegalArgumentException("No se puede unir un inventario consigo mismo");
+        }
+        if (lower.size > 0 && higher.size > 0 && lower.maxCode >= higher.minCode) {
+            throw new IllegalArgumentException("Inventarios solapados: " + lower.maxCode
+                    + " >= " + higher.minCode);
+        }
+        
+        InventorySystem result = new InventorySystem();
+        result.adoptTree(result.joinTrees(lower.root, higher.root));
+        lower.clearTree();
+        higher.clearTree();
+        return result;
+    }
+    
+    /**
+     * Une TL < key < TR en un AVL válido
+     * DECISIÓN: Algoritmo "join" de Blelloch et al.: se desciende por el
+     * flanco del árbol más alto hasta encontrar un subárbol de altura
+     * compatible, se cuelga ahí el nodo clave y se rebalancea al volver
+     * 
+     * COMPLEJIDAD: O(|altura(TL) - altura(TR)| + 1)
+     */
+    private AVLNode joinWithKey(AVLNode left, AVLNode key, AVLNode right) {
+        if (getHeight(left) > getHeight(right) + 1) {
+            return joinRight(left, key, right);
+        }
+        if (getHeight(right) > getHeight(left) + 1) {
+            return joinLeft(left, key, right);
+        }
+        key.left = left;
+        key.right = right;
+        updateHeight(key);
+        return key;
+    }
+    
+    /**
+     * Join cuando el árbol izquierdo es más alto: se baja por su flanco derecho
+     */
+    private AVLNode joinRight(AVLNode left, AVLNode key, AVLNode right) {
+        AVLNode inner = left.right;
+        if (getHeight(inner) <= getHeight(right) + 1) {
+            key.left = inner;
+            key.right = right;
+            updateHeight(key);
+            left.right = (getHeight(key) <= getHeight(left.left) + 1) ? key : rotateRight(key);
+        } else {
+            left.right = joinRight(inner, key, right);
+        }
+        updateHeight(left);
+        return (getBalance(left) < -1) ? rotateLeft(left) : left;
+    }
+    
+    /**
+     * Join cuando el árbol derecho es más alto: se baja por su flanco izquierdo
+     */
+    private AVLNode joinLeft(AVLNode left, AVLNode key, AVLNode right) {
+        AVLNode inner = right.left;
+        if (getHeight(inner) <= getHeight(left) + 1) {
+            key.left = left;
+            key.right = inner;
+            updateHeight(key);
+            right.left = (getHeight(key) <= getHeight(right.right) + 1) ? key : rotateLeft(key);
+        } else {
+            right.left = joinLeft(left, key, inner);
+        }
+        updateHeight(right);
+        return (getBalance(right) > 1) ? rotateRight(right) : right;
+    }
+    
+    /**
+     * Parte un subárbol en parts[0] (< pivot) y parts[1] (>= pivot)
+     * DECISIÓN: Cada nodo del camino se reutiliza como clave del join que
+     * recompone su lado, así no se crea ningún nodo
+     */
+    private void splitTree(AVLNode node, int pivot, AVLNode[] parts) {
+        if (node == null) {
+            parts[0] = null;
+            parts[1] = null;
+            return;
+        }
+        AVLNode left = node.left;
+        AVLNode right = node.right;
+        if (pivot <= node.code) {
+            splitTree(left, pivot, parts);
+            parts[1] = joinWithKey(parts[1], node, right);
+        } else {
+            splitTree(right, pivot, parts);
+            parts[0] = joinWithKey(left, node, parts[0]);
+        }
+    }
+    
+    /**
+     * Separa el mayor nodo: parts[0] = resto del árbol, parts[1] = nodo máximo
+     */
+    private void splitLast(AVLNode node, AVLNode[] parts) {
+        if (node.right == null) {
+            parts[0] = node.left;
+            parts[1] = node;
+            return;
+        }
+        splitLast(node.right, parts);
+        parts[0] = joinWithKey(node.left, node, parts[0]);
+    }
+    
+    /**
+     * Toma un árbol ya construido como contenido de este inventario
+     */
+    private void adoptTree(AVLNode tree) {
+        thaw();
+        root = tree;
+        size = getSubtreeSize(tree);
+        if (tree != null) {
+            minCode = leftmost(tree).code;
+            maxCode = rightmost(tree).code;
+        }
+    }
+    
+    /**
+     * Deja el inventario vacío (sus nodos han pasado a otro inventario)
+     */
+    private void clearTree() {
+        thaw();
+        root = null;
+        size = 0;
+        Arrays.fill(path, null);
+    }
+    
+    // ======================== ÁLGEBRA DE CONJUNTOS ========================
+    
+    /**
+     * Operaciones entre inventarios basadas en split/join
+     */
+    private enum SetOperation { UNION, INTERSECTION, DIFFERENCE }
+    
+    /**
+     * Códigos presentes en "a" o en "b"
+     * DECISIÓN: Como split/join, reutiliza los nodos de ambos inventarios, que
+     * quedan vacíos; usar copy() antes si hay que conservar los originales
+     * 
+     * COMPLEJIDAD: O(m log(n/m + 1)), con m <= n los tamaños de los inventarios
+     */
+    public static InventorySystem union(InventorySystem a, InventorySystem b) {
+        return combine(SetOperation.UNION, a, b, null);
+    }
+    
+    public static InventorySystem union(InventorySystem a, InventorySystem b, ForkJoinPool pool) {
+        return combine(SetOperation.UNION, a, b, pool);
+    }
+    
+    /**
+     * Códigos presentes en "a" y en "b" (p. ej. sistema maestro frente a recuento)
+     */
+    public static InventorySystem intersect(InventorySystem a, InventorySystem b) {
+        return combine(SetOperation.INTERSECTION, a, b, null);
+    }
+    
+    public static InventorySystem intersect(InventorySystem a, InventorySystem b, ForkJoinPool pool) {
+        return combine(SetOperation.INTERSECTION, a, b, pool);
+    }
+    
+    /**
+     * Códigos presentes en "a" pero no en "b"
+     */
+    public static InventorySystem difference(InventorySystem a, InventorySystem b) {
+        return combine(SetOperation.DIFFERENCE, a, b, null);
+    }
+    
+    public static InventorySystem difference(InventorySystem a, InventorySystem b, ForkJoinPool pool) {
+        return combine(SetOperation.DIFFERENCE, a, b, pool);
+    }
+    
+    /**
+     * Copia independiente del inventario (misma forma de árbol)
+     * 
+     * COMPLEJIDAD: O(n)
+     */
+    public InventorySystem copy() {
+        InventorySystem copy = new InventorySystem();
+        copy.adoptTree(copyTree(root));
+        return copy;
+    }
+    
+    private static AVLNode copyTree(AVLNode node) {
+        if (node == null) {
+            return null;
+        }
+        AVLNode clone = new AVLNode(node.code);
+        clone.left = copyTree(node.left);
+        clone.right = copyTree(node.right);
+        clone.height = node.height;
+        clone.subtreeSize = node.subtreeSize;
+        return clone;
+    }
+    
+    /**
+     * DECISIÓN: Con un pool, las dos mitades de cada paso recursivo se
+     * resuelven en tareas ForkJoin mientras el par de subárboles supere
+     * DEFAULT_PARALLEL_CUTOFF nodos; cada tarea toca nodos disjuntos
+     */
+    private static InventorySystem combine(SetOperation op, InventorySystem a, InventorySystem b,
+                                           ForkJoinPool pool) {
+        if (a == b) {
+            throw new IllegalArgumentException("Los inventarios deben ser instancias distintas");
+        }
+        InventorySystem result = new InventorySystem();
+        AVLNode tree = (pool == null)
+                ? result.setOp(op, a.root, b.root)
+                : pool.invoke(result.new SetOpTask(op, a.root, b.root));
+        result.adoptTree(tree);
+        a.clearTree();
+        b.clearTree();
+        return result;
+    }
+    
+    /**
+     * Algoritmos de Blelloch et al.: se parte un árbol por la raíz del otro,
+     * se resuelven las dos mitades y se recomponen con join
+     */
+    private AVLNode setOp(SetOperation op, AVLNode t1, AVLNode t2) {
+        AVLNode trivial = trivialSetOp(op, t1, t2);
+        if (trivial != null || t1 == null || t2 == null) {
+            return trivial;
+        }
+        AVLNode[] parts = new AVLNode[2];
+        boolean found = splitAround(t2, t1.code, parts);
+        AVLNode left = setOp(op, t1.left, parts[0]);
+        AVLNode right = setOp(op, t1.right, parts[1]);
+        return joinSetOpHalves(op, left, t1, found, right);
+    }
+    
+    /**
+     * Resultado directo cuando uno de los árboles está vacío (null si no aplica
+     * o si el resultado es vacío)
+     */
+    private static AVLNode trivialSetOp(SetOperation op, AVLNode t1, AVLNode t2) {
+        if (t1 == null) {
+            return (op == SetOperation.UNION) ? t2 : null;
+        }
+        if (t2 == null) {
+            return (op == SetOperation.INTERSECTION) ? null : t1;
+        }
+        return null;
+    }
+    
+    /**
+     * Recompone el resultado alrededor de la raíz "key" del primer árbol
+     * DECISIÓN: En la diferencia y en la intersección sin coincidencia la clave
+     * desaparece y las mitades se unen con join2 (sin clave)
+     */
+    private AVLNode joinSetOpHalves(SetOperation op, AVLNode left, AVLNode key, boolean found,
+                                    AVLNode right) {
+        boolean keep = (op == SetOperation.UNION)
+                || (op == SetOperation.INTERSECTION && found)
+                || (op == SetOperation.DIFFERENCE && !found);
+        return keep ? joinWithKey(left, key, right) : joinTrees(left, right);
+    }
+    
+    /**
+     * Parte un subárbol en parts[0] (< key) y parts[1] (> key), descartando
+     * el nodo igual a "key" si existe
+     * 
+     * @return true si "key" estaba en el subárbol
+     */
+    private boolean splitAround(AVLNode node, int key, AVLNode[] parts) {
+        if (node == null) {
+            parts[0] = null;
+            parts[1] = null;
+            return false;
+        }
+        AVLNode left = node.left;
+        AVLNode right = node.right;
+        if (key == node.code) {
+            parts[0] = left;
+            parts[1] = right;
+            return true;
+        }
+        boolean found;
+        if (key < node.code) {
+            found = splitAround(left, key, parts);
+            parts[1] = joinWithKey(parts[1], node, right);
+        } else {
+            found = splitAround(right, key, parts);
+            parts[0] = joinWithKey(left, node, parts[0]);
+        }
+        return found;
+    }
+    
+    /**
+     * Une dos árboles ordenados (todo "left" < todo "right") sin nodo clave
+     */
+    private AVLNode joinTrees(AVLNode left, AVLNode right) {
+        if (left == null) {
+            return right;
+        }
+        AVLNode[] parts = new AVLNode[2];
+        splitLast(left, parts);
+        return joinWithKey(parts[0], parts[1], right);
+    }
+    
+    /**
+     * Versión ForkJoin de setOp
+     * (RecursiveTask es Serializable, pero las tareas nunca se serializan)
+     */
+    @SuppressWarnings("serial")
+    private class SetOpTask extends RecursiveTask<AVLNode> {
+        private final SetOperation op;
+        private final AVLNode t1;
+        private final AVLNode t2;
+        
+        SetOpTask(SetOperation op, AVLNode t1, AVLNode t2) {
+            this.op = op;
+            this.t1 = t1;
+            this.t2 = t2;
+        }
+        
+        @Override
+        protected AVLNode compute() {
+            if (getSubtreeSize(t1) + getSubtreeSize(t2) <= DEFAULT_PARALLEL_CUTOFF) {
+                return setOp(op, t1, t2);
+            }
+            AVLNode trivial = trivialSetOp(op, t1, t2);
+            if (trivial != null || t1 == null || t2 == null) {
+                return trivial;
+            }
+            AVLNode[] parts = new AVLNode[2];
+            boolean found = splitAround(t2, t1.code, parts);
+            SetOpTask leftTask = new SetOpTask(op, t1.left, parts[0]);
+            leftTask.fork();
+            AVLNode right = new SetOpTask(op, t1.right, parts[1]).compute();
+            AVLNode left = leftTask.join();
+            return joinSetOpHalves(op, left, t1, found, right);
+        }
+    }
+    
+    // ======================== CARGA MASIVA ========================
+    
+    /**
+     * Carga masiva de códigos (reconstrucción nocturna del catálogo)
+     * DECISIÓN: Ordenar, eliminar duplicados y construir directamente un árbol
+     * perfectamente balanceado, sin ninguna rotación. Si el inventario ya tenía
+     * códigos se fusionan con los nuevos, nunca se pierden
+     * 
+     * COMPLEJIDAD: O(n log n) de la ordenación (se omite si la entrada ya está
+     * ordenada) + O(n) para la fusión y la construcción
+     */
+    public void bulkLoad(int[] codes) {
+        load(codes, null, 0);
+    }
+    
+    /**
+     * Carga masiva en paralelo sobre el pool común de ForkJoin
+     */
+    public void bulkLoadParallel(int[] codes) {
+        bulkLoadParallel(codes, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_CUTOFF);
+    }
+    
+    /**
+     * Carga masiva en paralelo
+     * DECISIÓN: Mismo árbol que bulkLoad (raíz = mediana en cada rango), pero
+     * cada mitad se construye en una tarea ForkJoin independiente y los
+     * subárboles se enlazan al volver; por debajo de "sequentialCutoff"
+     * códigos la tarea construye su subárbol de forma secuencial
+     * 
+     * COMPLEJIDAD: O(n log n / p) de la ordenación paralela + O(n / p + log n)
+     * para la construcción con p hilos
+     */
+    public void bulkLoadParallel(int[] codes, ForkJoinPool pool, int sequentialCutoff) {
+        if (sequentialCutoff < 1) {
+            throw new IllegalArgumentException("Umbral secuencial no válido: " + sequentialCutoff);
+        }
+        load(codes, pool, sequentialCutoff);
+    }
+    
+    private void load(int[] codes, ForkJoinPool pool, int sequentialCutoff) {
+        thaw();
+        int[] sorted = codes.clone();     // No modificar el array del llamante
+        int count = sortUnique(sorted, pool != null);
+        
+        if (root != null) {
+            int[] existing = new int[size];
+            collectInOrder(root, existing, 0);
+            sorted = mergeUnique(existing, existing.length, sorted, count);
+            count = sorted.length;
+        }
+        
+        if (pool == null) {
+            root = buildBalanced(sorted, 0, count);
+        } else {
+            root = pool.invoke(new BuildTask(sorted, 0, count, sequentialCutoff));
+        }
+        size = count;
+        if (count > 0) {
+            minCode = sorted[0];
+            maxCode = sorted[count - 1];
+        }
+    }
+    
+    /**
+     * Ordena el array y compacta los duplicados al principio
+     * DECISIÓN: Comprobar primero si ya está ordenado (caso habitual en las
+     * exportaciones del sistema maestro) para ahorrar la ordenación
+     * 
+     * @return número de códigos distintos, que quedan en [0, count)
+     */
+    private static int sortUnique(int[] codes, boolean parallel) {
+        for (int i = 1; i < codes.length; i++) {
+            if (codes[i - 1] > codes[i]) {
+                if (parallel) {
+                    Arrays.parallelSort(codes);
+                } else {
+                    Arrays.sort(codes);
+                }
+                break;
+            }
+        }
+        
+        int count = 0;
+        for (int i = 0; i < codes.length; i++) {
+            if (count == 0 || codes[count - 1] != codes[i]) {
+                codes[count++] = codes[i];
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Fusiona dos secuencias ordenadas sin duplicados en una nueva
+     */
+    private static int[] mergeUnique(int[] a, int aCount, int[] b, int bCount) {
+        int[] merged = new int[aCount + bCount];
+        int i = 0, j = 0, k = 0;
+        while (i < aCount && j < bCount) {
+            if (a[i] < b[j]) {
+                merged[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                merged[k++] = b[j++];
+            } else {
+                merged[k++] = a[i++];
+                j++;
+            }
+        }
+        while (i < aCount) {
+            merged[k++] = a[i++];
+        }
+        while (j < bCount) {
+            merged[k++] = b[j++];
+        }
+        return (k == merged.length) ? merged : Arrays.copyOf(merged, k);
+    }
+    
+    /**
+     * Construye un subárbol perfectamente balanceado con sorted[from, to)
+     * DECISIÓN: La mediana como raíz deja ambos lados con tamaños que
+     * difieren como mucho en 1, así que las alturas se calculan sin rotar
+     */
+    private AVLNode buildBalanced(int[] sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        AVLNode node = new AVLNode(sorted[mid]);
+        node.left = buildBalanced(sorted, from, mid);
+        node.right = buildBalanced(sorted, mid + 1, to);
+        updateHeight(node);
+        return node;
+    }
+    
+    /**
+     * Tarea de construcción paralela de un subárbol con sorted[from, to)
+     * DECISIÓN: Clase interna (no estática) para poder crear AVLNode; cada
+     * tarea solo escribe en sus propios nodos, no hace falta sincronizar.
+     * RecursiveTask es Serializable, pero las tareas nunca se serializan
+     */
+    @SuppressWarnings("serial")
+    private class BuildTask extends RecursiveTask<AVLNode> {
+        private final int[] sorted;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+        
+        BuildTask(int[] sorted, int from, int to, int cutoff) {
+            this.sorted = sorted;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+        
+        @Override
+        protected AVLNode compute() {
+            if (to - from <= cutoff) {
+                return buildBalanced(sorted, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            BuildTask leftTask = new BuildTask(sorted, from, mid, cutoff);
+            leftTask.fork();
+            AVLNode right = new BuildTask(sorted, mid + 1, to, cutoff).compute();
+            
+            AVLNode node = new AVLNode(sorted[mid]);
+            node.left = leftTask.join();
+            node.right = right;
+            updateHeight(node);
+            return node;
+        }
+    }
+    
+    /**
+     * Copia los códigos en orden ascendente a partir de out[pos]
+     * 
+     * @return siguiente posición libre de out
+     */
+    private int collectInOrder(AVLNode node, int[] out, int pos) {
+        while (node != null) {
+            pos = collectInOrder(node.left, out, pos);
+            out[pos++] = node.code;
+            node = node.right;      // Recursión de cola convertida en bucle
+        }
+        return pos;
+    }
+    
+    // ======================== MODO CONGELADO ========================
+    
+    /**
+     * Disposiciones disponibles para la instantánea congelada
+     */
+    public enum FrozenLayout {
+        /** Orden BFS: descenso sin saltos, 4 bytes por código */
+        EYTZINGER,
+        /** Orden van Emde Boas: localidad en todos los niveles de memoria */
+        VAN_EMDE_BOAS
+    }
+    
+    /**
+     * Congela el inventario para una fase de solo lectura (entre cargas nocturnas)
+     * DECISIÓN: Se genera una instantánea compacta en disposición de Eytzinger
+     * que atiende search() con un descenso sin saltos sobre un int[]. El árbol
+     * AVL se conserva, así que el resto de consultas siguen funcionando y
+     * cualquier modificación descongela de forma transparente (basta con
+     * descartar la instantánea)
+     * 
+     * COMPLEJIDAD: O(n); la instantánea ocupa 4 bytes por código
+     */
+    public void freeze() {
+        freeze(FrozenLayout.EYTZINGER);
+    }
+    
+    /**
+     * Congela el inventario con la disposición indicada
+     * DECISIÓN: Ambas instantáneas se construyen a partir de la secuencia
+     * in-order del árbol
+     */
+    public void freeze(FrozenLayout layout) {
+        int[] sorted = new int[size];
+        collectInOrder(root, sorted, 0);
+        frozen = (layout == FrozenLayout.VAN_EMDE_BOAS)
+                ? new VanEmdeBoasLayout(sorted, size)
+                : new EytzingerLayout(sorted, size);
+    }
+    
+    /**
+     * Descarta la instantánea congelada; search() vuelve a usar el árbol
+     */
+    public void thaw() {
+        frozen = null;
+    }
+    
+    public boolean isFrozen() {
+        return frozen != null;
+    }
+    
+    // ======================== BÚSQUEDA ========================
+    
+    /**
+     * Busca un código específico en el sistema
+     * DECISIÓN: BST permite búsqueda eficiente comparando valores
+     * 
+     * COMPLEJIDAD: O(log n) por el balanceado AVL
+     */
+    @Override
+    public boolean search(int code) {
+        if (frozen != null) {
+            return frozen.contains(code);
+        }
+        InventoryMetrics m = metrics;
+        if (m != null) {
+            return searchCounted(root, code, m);
+        }
+        return searchIterative(root, code);
+    }
+    
+    /**
+     * Búsqueda iterativa
+     * DECISIÓN: Un bucle evita un marco de pila por nivel
+     */
+    private boolean searchIterative(AVLNode node, int code) {
+        while (node != null) {
+            if (code == node.code) {
+                return true;
+            }
+            node = (code < node.code) ? node.left : node.right;
+        }
+        return false;
+    }
+    
+    /**
+     * Búsqueda iterativa con contadores
+     * DECISIÓN: Copia aparte de searchIterative para que el bucle sin métricas
+     * no cargue con la cuenta de profundidad; se publica una vez al terminar
+     */
+    private boolean searchCounted(AVLNode node, int code, InventoryMetrics m) {
+        int depth = 0;
+        while (node != null) {
+            depth++;
+            if (code == node.code) {
+                m.recordSearch(depth, true);
+                return true;
+            }
+            node = (code < node.code) ? node.left : node.right;
+        }
+        m.recordSearch(depth, false);
+        return false;
+    }
+    
+    // ======================== MÉTRICAS ========================
+    
+    /**
+     * Activa los contadores operativos (si ya lo estaban, conserva los actuales)
+     * DECISIÓN: Campo normal, no volatile: activar y desactivar modifican el
+     * inventario como un alta, así que siguen sus mismas reglas de hilos (el
+     * hilo propietario, o el cerrojo de escritura de quien lo comparta). Cada
+     * operación lee el campo una sola vez en una variable local, de modo que
+     * una búsqueda o un alta ve los contadores activos o no de principio a fin
+     * y el JIT puede mantener la lectura en un registro
+     * 
+     * COMPLEJIDAD: O(1)
+     */
+    public InventoryMetrics enableMetrics() {
+        InventoryMetrics m = metrics;
+        if (m == null) {
+            m = new InventoryMetrics();
+            metrics = m;
+        }
+        return m;
+    }
+    
+    /**
+     * Desactiva los contadores; los acumulados se pierden
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+    
+    /**
+     * Contadores activos, o null si están desactivados
+     */
+    public InventoryMetrics getMetrics() {
+        return metrics;
+    }
+    
+    // ======================== NAVEGACIÓN ========================
+    
+    /**
+     * Menor código del inventario
+     * DECISIÓN: Extremo en caché mantenido por insertAVL y bulkLoad
+     * 
+     * COMPLEJIDAD: O(1)
+     */
+    public OptionalInt first() {
+        return (size == 0) ? OptionalInt.empty() : OptionalInt.of(minCode);
+    }
+    
+    /**
+     * Mayor código del inventario
+     * 
+     * COMPLEJIDAD: O(1)
+     */
+    public OptionalInt last() {
+        return (size == 0) ? OptionalInt.empty() : OptionalInt.of(maxCode);
+    }
+    
+    /**
+     * Mayor código menor o igual que "code" (el más cercano por debajo)
+     * DECISIÓN: Un único descenso que recuerda el último candidato válido
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public OptionalInt floor(int code) {
+        AVLNode candidate = null;
+        AVLNode node = root;
+        while (node != null) {
+            if (code == node.code) {
+                return OptionalInt.of(code);
+            }
+            if (code < node.code) {
+                node = node.left;
+            } else {
+                candidate = node;
+                node = node.right;
+            }
+        }
+        return (candidate == null) ? OptionalInt.empty() : OptionalInt.of(candidate.code);
+    }
+    
+    /**
+     * Menor código mayor o igual que "code" (el más cercano por encima)
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public OptionalInt ceiling(int code) {
+        AVLNode candidate = null;
+        AVLNode node = root;
+        while (node != null) {
+            if (code == node.code) {
+                return OptionalInt.of(code);
+            }
+            if (code > node.code) {
+                node = node.right;
+            } else {
+                candidate = node;
+                node = node.left;
+            }
+        }
+        return (candidate == null) ? OptionalInt.empty() : OptionalInt.of(candidate.code);
+    }
+    
+    /**
+     * Mayor código estrictamente menor que "code" (predecesor)
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public OptionalInt lower(int code) {
+        AVLNode candidate = null;
+        AVLNode node = root;
+        while (node != null) {
+            if (code <= node.code) {
+                node = node.left;
+            } else {
+                candidate = node;
+                node = node.right;
+            }
+        }
+        return (candidate == null) ? OptionalInt.empty() : OptionalInt.of(candidate.code);
+    }
+    
+    /**
+     * Menor código estrictamente mayor que "code" (sucesor)
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public OptionalInt higher(int code) {
+        AVLNode candidate = null;
+        AVLNode node = root;
+        while (node != null) {
+            if (code >= node.code) {
+                node = node.right;
+            } else {
+                candidate = node;
+                node = node.left;
+            }
+        }
+        return (candidate == null) ? OptionalInt.empty() : OptionalInt.of(candidate.code);
+    }
+    
+    // ======================== CONSULTAS POR RANGO ========================
+    
+    /**
+     * Cuenta los códigos en [lo, hi] (ambos inclusive)
+     * DECISIÓN: Diferencia de dos descensos que suman tamaños de subárbol
+     * en lugar de visitar los códigos del rango
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public int countInRange(int lo, int hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        return countAtMost(hi) - countBelow(lo);
+    }
+    
+    /**
+     * Número de códigos estrictamente menores que "code"
+     */
+    private int countBelow(int code) {
+        int count = 0;
+        AVLNode node = root;
+        while (node != null) {
+            if (code <= node.code) {
+                node = node.left;
+            } else {
+                count += getSubtreeSize(node.left) + 1;     // Subárbol izquierdo + nodo
+                node = node.right;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Número de códigos menores o iguales que "code"
+     */
+    private int countAtMost(int code) {
+        int count = 0;
+        AVLNode node = root;
+        while (node != null) {
+            if (code < node.code) {
+                node = node.left;
+            } else {
+                count += getSubtreeSize(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Entrega en orden ascendente los códigos en [lo, hi] (ambos inclusive)
+     * DECISIÓN: La propiedad BST permite descartar subárboles completos
+     * fuera del rango sin visitarlos
+     * 
+     * COMPLEJIDAD: O(log n + k), con k códigos en el rango
+     */
+    public void rangeScan(int lo, int hi, IntConsumer action) {
+        if (lo <= hi) {
+            rangeScan(root, lo, hi, action);
+        }
+    }
+    
+    private void rangeScan(AVLNode node, int lo, int hi, IntConsumer action) {
+        while (node != null) {
+            if (node.code < lo) {
+                node = node.right;          // Todo el subárbol izquierdo es menor
+            } else if (node.code > hi) {
+                node = node.left;           // Todo el subárbol derecho es mayor
+            } else {
+                rangeScan(node.left, lo, hi, action);
+                action.accept(node.code);
+                node = node.right;
+            }
+        }
+    }
+    
+    // ======================== ESTADÍSTICAS DE ORDEN ========================
+    
+    /**
+     * Posición que ocuparía "code" en el catálogo ordenado
+     * DECISIÓN: Es el número de códigos estrictamente menores, exista o no
+     * el código; así rank y select son inversas para códigos presentes
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public int rank(int code) {
+        return countBelow(code);
+    }
+    
+    /**
+     * Devuelve el k-ésimo código más pequeño (k empieza en 0)
+     * DECISIÓN: Se desciende comparando k con el tamaño del subárbol izquierdo,
+     * sin recorrer los códigos anteriores
+     * 
+     * COMPLEJIDAD: O(log n)
+     */
+    public int select(int k) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("Posición " + k + " fuera de [0, " + size + ")");
+        }
+        AVLNode node = root;
+        while (true) {
+            int leftSize = getSubtreeSize(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k == leftSize) {
+                return node.code;
+            } else {
+                k -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+    
+    /**
+     * Mediana del catálogo
+     * DECISIÓN: Con un número par de códigos se devuelve la mediana inferior,
+     * para que el resultado sea siempre un código existente
+     */
+    public int median() {
+        if (size == 0) {
+            throw new NoSuchElementException("Inventario vacío");
+        }
+        return select((size - 1) / 2);
+    }
+    
+    /**
+     * Percentil p (0-100) por el método del rango más cercano
+     * DECISIÓN: Devuelve el menor código con al menos p% de los códigos
+     * menores o iguales; percentile(0) es el mínimo y percentile(100) el máximo
+     */
+    public int percentile(double p) {
+        if (!(p >= 0 && p <= 100)) {
+            throw new IllegalArgumentException("Percentil fuera de [0, 100]: " + p);
+        }
+        if (size == 0) {
+            throw new NoSuchElementException("Inventario vacío");
+        }
+        int nearestRank = (int) Math.ceil(p / 100 * size);
+        return select(Math.max(nearestRank, 1) - 1);
+    }
+    
+    // ======================== BÚSQUEDA POR LOTES ========================
+    
+    /**
+     * Busca un lote de códigos de una vez (p. ej. una ráfaga del escáner)
+     * DECISIÓN: El lote se ordena y se desciende por el árbol una sola vez,
+     * partiendo el rango del lote en cada nodo; la parte superior del
+     * camino, común a todos los códigos, se visita una vez en lugar de una
+     * por código
+     * 
+     * COMPLEJIDAD: O(k log k) de la ordenación + como mucho O(k log n) nodos,
+     * normalmente bastantes menos
+     * 
+     * @return found[i] indica si codes[i] está en el inventario (mismo orden que la entrada)
+     */
+    public boolean[] searchAll(int[] codes) {
+        int k = codes.length;
+        boolean[] found = new boolean[k];
+        if (k == 0 || root == null) {
+            return found;
+        }
+        
+        // Ordenar índices por código sin boxing: código en los 32 bits altos
+        // (conserva el orden con signo) y posición original en los bajos
+        long[] keyed = new long[k];
+        for (int i = 0; i < k; i++) {
+            keyed[i] = ((long) codes[i] << 32) | i;
+        }
+        Arrays.sort(keyed);
+        
+        searchBatch(root, keyed, 0, k, found);
+        return found;
+    }
+    
+    public boolean[] searchInterleaved(int[] codes) {
+        return searchInterleaved(codes, DEFAULT_INTERLEAVE_GROUP);
+    }
+    
+    /**
+     * Busca un lote avanzando "group" búsquedas independientes un nivel cada vez
+     * DECISIÓN: Un descenso aislado es una cadena de fallos de caché
+     * dependientes; al alternar entre varias búsquedas (round-robin) sus
+     * lecturas no dependen entre sí y el procesador puede tener varias en
+     * vuelo a la vez. Cuando una búsqueda termina, su hueco toma el
+     * siguiente código del lote
+     * 
+     * COMPLEJIDAD: O(k log n), igual que k llamadas a search, con mejor
+     * paralelismo de memoria en árboles mayores que la caché
+     * 
+     * @return found[i] indica si codes[i] está en el inventario
+     */
+    public boolean[] searchInterleaved(int[] codes, int group) {
+        if (group < 1) {
+            throw new IllegalArgumentException("Tamaño de grupo no válido: " + group);
+        }
+        boolean[] found = new boolean[codes.length];
+        int slots = Math.min(group, codes.length);
+        if (slots == 0 || root == null) {
+            return found;
+        }
+        
+        AVLNode[] cursor = new AVLNode[slots];     // Nodo actual de cada búsqueda
+        int[] target = new int[slots];             // Código buscado en cada hueco
+        int[] owner = new int[slots];              // Posición en "codes" de cada hueco
+        int next = 0;
+        for (int s = 0; s < slots; s++) {
+            cursor[s] = root;
+            target[s] = codes[next];
+            owner[s] = next++;
+        }
+        
+        int active = slots;
+        while (active > 0) {
+            for (int s = 0; s < slots; s++) {
+                AVLNode node = cursor[s];
+                if (node == null && owner[s] < 0) {
+                    continue;           // Hueco agotado
+                }
+                
+                boolean done;
+                if (node == null) {
+                    done = true;        // Búsqueda fallida
+                } else if (target[s] == node.code) {
+                    found[owner[s]] = true;
+                    done = true;
+                } else {
+                    cursor[s] = (target[s] < node.code) ? node.left : node.right;
+                    done = false;
+                }
+                
+                if (done) {
+                    if (next < codes.length) {
+                        cursor[s] = root;
+                        target[s] = codes[next];
+                        owner[s] = next++;
+                    } else {
+                        cursor[s] = null;
+                        owner[s] = -1;
+                        active--;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+    
+    /**
+     * Resuelve keyed[from, to) dentro del subárbol "node"
+     * DECISIÓN: Búsqueda binaria del código del nodo en el lote para repartir
+     * el rango entre los dos hijos; los iguales se marcan como encontrados
+     */
+    private void searchBatch(AVLNode node, long[] keyed, int from, int to, boolean[] found) {
+        while (node != null && from < to) {
+            if (to - from == 1) {
+                // Un solo código: ya no hay prefijos que compartir
+                found[(int) keyed[from]] = searchIterative(node, (int) (keyed[from] >> 32));
+                return;
+            }
+            int code = node.code;
+            int lowEnd = lowerBound(keyed, from, to, code);          // Primeros >= code
+            int highStart = lowerBound(keyed, lowEnd, to, code + 1L); // Primeros > code
+            for (int i = lowEnd; i < highStart; i++) {
+                found[(int) keyed[i]] = true;
+            }
+            
+            // Recursión en la mitad más pequeña del lote, bucle en la otra
+            if (lowEnd - from < to - highStart) {
+                searchBatch(node.left, keyed, from, lowEnd, found);
+                node = node.right;
+                from = highStart;
+            } else {
+                searchBatch(node.right, keyed, highStart, to, found);
+                node = node.left;
+                to = lowEnd;
+            }
+        }
+    }
+    
+    /**
+     * Primera posición de keyed[from, to) cuyo código es >= code
+     */
+    private static int lowerBound(long[] keyed, int from, int to, long code) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if ((keyed[mid] >> 32) < code) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+    
+    // ======================== RECORRIDOS ========================
+    
+    /**
+     * Muestra elementos en orden ascendente (In-Order Traversal)
+     * DECISIÓN: In-order en BST produce secuencia ordenada automáticamente
+     */
+    public void showAscending() {
+        showAscending(new CodeWriter(System.out));
+    }
+    
+    /**
+     * Igual que showAscending() pero sobre una salida enchufable
+     * DECISIÓN: Todos los recorridos escriben en un CodeWriter, que formatea
+     * los códigos en un búfer reutilizable en lugar de un print por nodo
+     */
+    public void showAscending(CodeWriter out) {
+        out.writeText("=== ORDEN ASCENDENTE ===\n");
+        inOrderTraversal(root, out);
+        out.writeText("\n\n");
+        out.flush();
+    }
+    
+    private void inOrderTraversal(AVLNode node, CodeWriter out) {
+        while (node != null) {
+            inOrderTraversal(node.left, out);   // Primero los menores
+            out.writeCode(node.code);
+            node = node.right;                  // Luego los mayores
+        }
+    }
+    
+    /**
+     * Muestra elementos nivel por nivel (Breadth-First)
+     * DECISIÓN: Usar cola implementada manualmente para cumplir restricciones
+     */
+    public void showByLevels() {
+        showByLevels(new CodeWriter(System.out));
+    }
+    
+    public void showByLevels(CodeWriter out) {
+        out.writeText("=== RECORRIDO POR NIVELES ===\n");
+        if (root == null) {
+            out.writeText("Árbol vacío\n");
+            out.flush();
+            return;
+        }
+        traverseLevels(out::writeCode, null);
+        out.writeText("\n\n");
+        out.flush();
+    }
+    
+    /**
+     * Recibe las estadísticas de cada nivel durante traverseLevels
+     */
+    @FunctionalInterface
+    public interface LevelListener {
+        /**
+         * @param level     índice del nivel (0 = raíz)
+         * @param width     número de códigos del nivel
+         * @param firstCode código más a la izquierda del nivel
+         * @param lastCode  código más a la derecha del nivel
+         */
+        void onLevel(int level, int width, int firstCode, int lastCode);
+    }
+    
+    /**
+     * Recorrido por niveles con estadísticas por nivel en la misma pasada
+     * DECISIÓN: La cola crece solo hasta la anchura máxima de nivel que se
+     * alcanza (como mucho ~n/2 + 1 y normalmente mucho menos), en lugar de
+     * reservar un array proporcional a size en cada llamada. Tanto "action"
+     * como "listener" pueden ser null
+     * 
+     * COMPLEJIDAD: O(n) en tiempo, O(anchura máxima) en memoria
+     */
+    public void traverseLevels(IntConsumer action, LevelListener listener) {
+        if (root == null) {
+            return;
+        }
+        
+        NodeQueue queue = new NodeQueue();
+        queue.add(root);
+        
+        for (int level = 0; !queue.isEmpty(); level++) {
+            int width = queue.size();       // La cola contiene exactamente este nivel
+            int first = 0, last = 0;
+            
+            for (int i = 0; i < width; i++) {
+                AVLNode current = queue.poll();
+                if (i == 0) {
+                    first = current.code;
+                }
+                last = current.code;
+                if (action != null) {
+                    action.accept(current.code);
+                }
+                
+                // Añadir hijos a la cola (forman el siguiente nivel)
+                if (current.left != null) {
+                    queue.add(current.left);
+                }
+                if (current.right != null) {
+                    queue.add(current.right);
+                }
+            }
+            
+            if (listener != null) {
+                listener.onLevel(level, width, first, last);
+            }
+        }
+    }
+    
+    /**
+     * Cola circular de nodos que crece por duplicación
+     * DECISIÓN: Implementación manual (sin Queue) compartida por los recorridos por niveles
+     */
+    private class NodeQueue {
+        private AVLNode[] items = new AVLNode[16];  // Capacidad siempre potencia de 2
+        private int head = 0;
+        private int count = 0;
+        
+        void add(AVLNode node) {
+            if (count == items.length) {
+                AVLNode[] larger = new AVLNode[items.length * 2];
+                for (int i = 0; i < count; i++) {
+                    larger[i] = items[(head + i) & (items.length - 1)];
+                }
+                items = larger;
+                head = 0;
+            }
+            items[(head + count) & (items.length - 1)] = node;
+            count++;
+        }
+        
+        AVLNode poll() {
+            AVLNode node = items[head];
+            items[head] = null;
+            head = (head + 1) & (items.length - 1);
+            count--;
+            return node;
+        }
+        
+        int size() {
+            return count;
+        }
+        
+        boolean isEmpty() {
+            return count == 0;
+        }
+    }
+    
+    public void showDescending() {
+        showDescending(new CodeWriter(System.out));
+    }
+    
+    public void showDescending(CodeWriter out) {
+        out.writeText("=== ORDEN DESCENDENTE ===\n");
+        reverseInOrder(root, out);
+        out.writeText("\n\n");
+        out.flush();
+    }
+
+    private void reverseInOrder(AVLNode node, CodeWriter out) {
+        while (node != null) {
+            reverseInOrder(node.right, out);    // primero los mayores
+            out.writeCode(node.code);
+            node = node.left;                   // luego los menores
+        }
+    }
+
+    
+    /**
+     * Muestra elementos visitando primero padres, luego hijos (Pre-Order)
+     * DECISIÓN: Pre-order muestra jerarquía natural del árbol
+     */
+    public void showHierarchical() {
+        showHierarchical(new CodeWriter(System.out));
+    }
+    
+    public void showHierarchical(CodeWriter out) {
+        out.writeText("=== RECORRIDO JERÁRQUICO (Padre->Hijos) ===\n");
+        preOrderTraversal(root, out);
+        out.writeText("\n\n");
+        out.flush();
+    }
+    
+    private void preOrderTraversal(AVLNode node, CodeWriter out) {
+        while (node != null) {
+            out.writeCode(node.code);                   // Primero el padre
+            preOrderTraversal(node.left, out);          // Luego hijo izquierdo
+            node = node.right;                          // Finalmente hijo derecho
+        }
+    }
+    
+    // ======================== ITERADORES ========================
+    
+    /**
+     * Iterador perezoso en orden ascendente
+     * DECISIÓN: PrimitiveIterator.OfInt evita el boxing de cada código y la
+     * pila explícita (acotada por la altura) evita materializar el árbol
+     * 
+     * El inventario no debe modificarse mientras se recorre
+     */
+    @Override
+    public PrimitiveIterator.OfInt ascendingIterator() {
+        return new InOrderIterator(false);
+    }
+    
+    /**
+     * Iterador perezoso en orden descendente
+     */
+    public PrimitiveIterator.OfInt descendingIterator() {
+        return new InOrderIterator(true);
+    }
+    
+    /**
+     * Iterador perezoso padre->hijos (Pre-Order)
+     */
+    public PrimitiveIterator.OfInt preOrderIterator() {
+        return new PreOrderIterator();
+    }
+    
+    /**
+     * Iterador perezoso nivel por nivel (Breadth-First)
+     */
+    public PrimitiveIterator.OfInt levelOrderIterator() {
+        return new LevelOrderIterator();
+    }
+    
+    /**
+     * Recorrido in-order (o in-order inverso) con pila explícita
+     * DECISIÓN: La pila guarda los ancestros pendientes del siguiente código,
+     * nunca más que la altura del árbol
+     */
+    private class InOrderIterator implements PrimitiveIterator.OfInt {
+        private final boolean descending;
+        private final AVLNode[] stack = new AVLNode[getHeight(root)];
+        private int top = 0;
+        
+        InOrderIterator(boolean descending) {
+            this.descending = descending;
+            pushSpine(root);
+        }
+        
+        /**
+         * Apila el camino hacia el extremo (menor o mayor) del subárbol
+         */
+        private void pushSpine(AVLNode node) {
+            while (node != null) {
+                stack[top++] = node;
+                node = descending ? node.right : node.left;
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+        
+        @Override
+        public int nextInt() {
+            if (top == 0) {
+                throw new NoSuchElementException();
+            }
+            AVLNode node = stack[--top];
+            pushSpine(descending ? node.left : node.right);
+            return node.code;
+        }
+    }
+    
+    /**
+     * Recorrido pre-order con pila explícita
+     * DECISIÓN: Cada ancestro deja como mucho un hijo pendiente en la pila,
+     * así que su tamaño tampoco supera la altura del árbol
+     */
+    private class PreOrderIterator implements PrimitiveIterator.OfInt {
+        private final AVLNode[] stack = new AVLNode[getHeight(root)];
+        private int top = 0;
+        
+        PreOrderIterator() {
+            if (root != null) {
+                stack[top++] = root;
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+        
+        @Override
+        public int nextInt() {
+            if (top == 0) {
+                throw new NoSuchElementException();
+            }
+            AVLNode node = stack[--top];
+            if (node.right != null) {
+                stack[top++] = node.right;      // Primero el derecho: sale después
+            }
+            if (node.left != null) {
+                stack[top++] = node.left;
+            }
+            return node.code;
+        }
+    }
+    
+    /**
+     * Recorrido por niveles con cola circular creciente
+     * DECISIÓN: La cola empieza pequeña y solo crece hasta la anchura máxima
+     * de nivel que realmente se alcanza, en lugar de reservar 2 * size
+     */
+    private class LevelOrderIterator implements PrimitiveIterator.OfInt {
+        private final NodeQueue queue = new NodeQueue();
+        
+        LevelOrderIterator() {
+            if (root != null) {
+                queue.add(root);
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+        
+        @Override
+        public int nextInt() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            AVLNode node = queue.poll();
+            if (node.left != null) {
+                queue.add(node.left);
+            }
+            if (node.right != null) {
+                queue.add(node.right);
+            }
+            return node.code;
+        }
+    }
+    
+    // ======================== STREAMS ========================
+    
+    /**
+     * Flujo de códigos en orden ascendente
+     * DECISIÓN: Respaldado por un Spliterator.OfInt propio que, al dividirse,
+     * entrega subárboles completos, de modo que .parallel() reparte el árbol
+     * entre núcleos sin copiarlo. Secuencial por defecto, como Collection.stream()
+     * 
+     * El inventario no debe modificarse mientras se consume el flujo
+     */
+    public IntStream codes() {
+        return StreamSupport.intStream(
+                new CodeSpliterator(root, Integer.MIN_VALUE, Integer.MAX_VALUE, size), false);
+    }
+    
+    /**
+     * Spliterator sobre los códigos en [lo, hi] de un subárbol
+     * DECISIÓN: Cada división corta por la raíz del rango (o por su hijo
+     * izquierdo si la raíz es el límite superior), así que se ceden subárboles
+     * completos; countInRange da el tamaño exacto de cada parte
+     */
+    private class CodeSpliterator implements Spliterator.OfInt {
+        private AVLNode node;       // Subárbol que contiene el rango
+        private int lo;             // Límite inferior inclusivo (sube al ceder el prefijo)
+        private final int hi;       // Límite superior inclusivo
+        private long remaining;     // Códigos pendientes (exacto)
+        
+        private AVLNode[] stack;    // Pila del recorrido; null hasta el primer avance
+        private int top;
+        
+        CodeSpliterator(AVLNode node, int lo, int hi, long remaining) {
+            this.node = node;
+            this.lo = lo;
+            this.hi = hi;
+            this.remaining = remaining;
+        }
+        
+        @Override
+        public OfInt trySplit() {
+            if (stack != null) {
+                return null;        // Ya empezado: no se divide
+            }
+            
+            // Raíz del rango: primer nodo del descenso que cae dentro de [lo, hi]
+            AVLNode r = node;
+            while (r != null && (r.code < lo || r.code > hi)) {
+                r = (r.code < lo) ? r.right : r.left;
+            }
+            if (r == null) {
+                return null;
+            }
+            
+            // Punto de corte: la raíz del rango, salvo que sea el límite superior
+            AVLNode cut = r;
+            if (r.code == hi) {
+                cut = r.left;
+                while (cut != null && cut.code < lo) {
+                    cut = cut.right;
+                }
+                if (cut == null) {
+                    return null;    // El prefijo estaría vacío
+                }
+            }
+            
+            int prefixSize = countInRange(lo, cut.code);
+            CodeSpliterator prefix = new CodeSpliterator(r, lo, cut.code, prefixSize);
+            node = r;
+            lo = cut.code + 1;
+            remaining -= prefixSize;
+            return prefix;
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (stack == null) {
+                stack = new AVLNode[getHeight(node)];
+                pushRange(node);
+            }
+            if (top == 0) {
+                return false;
+            }
+            AVLNode current = stack[--top];
+            if (current.code > hi) {
+                top = 0;            // Fuera del rango: el resto también lo está
+                return false;
+            }
+            pushRange(current.right);
+            remaining--;
+            action.accept(current.code);
+            return true;
+        }
+        
+        /**
+         * Apila el camino hacia el menor código >= lo del subárbol
+         */
+        private void pushRange(AVLNode n) {
+            while (n != null) {
+                if (n.code < lo) {
+                    n = n.right;
+                } else {
+                    stack[top++] = n;
+                    n = n.left;
+                }
+            }
+        }
+        
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+        
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | NONNULL | SIZED | SUBSIZED;
+        }
+        
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;            // Orden natural de los códigos
+        }
+    }
+    
+    // ======================== MÉTODOS AUXILIARES ========================
+    
+    /**
+     * Retorna el número de elementos en el sistema
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+    
+    /**
+     * Verifica si el sistema está vacío
+     */
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+    
+    /**
+     * Muestra estadísticas del árbol
+     * DECISIÓN: Útil para debugging y análisis de rendimiento
+     */
+    @Override
+    public void showStats() {
+        System.out.println("=== ESTADÍSTICAS DEL SISTEMA ===");
+        System.out.println("Total de códigos: " + size);
+        System.out.println("Altura del árbol: " + getHeight(root));
+        System.out.println("Árbol balanceado: " + isBalanced(root));
+        InventoryMetrics m = metrics;
+        if (m != null) {
+            m.show(System.out);
+        }
+        System.out.println("\n");
+    }
+    
+    /**
+     * Verifica si el árbol está balanceado (para testing)
+     */
+    private boolean isBalanced(AVLNode node) {
+        if (node == null) return true;
+        
+        int balance = getBalance(node);
+        return (Math.abs(balance) <= 1 && isBalanced(node.left) && isBalanced(node.right));
+    }
+    
+    // ======================== CLASE DE PRUEBA ========================
+    
+    /**
+     * Método main para demostración
+     * Incluir ejemplos de uso para facilitar testing
+     */
+    public static void main(String[] args) {
+        InventorySystem inventory = new InventorySystem();
+        
+        // Datos de prueba del enunciado
+        int[] testData = {50, 30, 70, 20, 40, 60, 80, 10, 25, 35, 45};
+        
+        System.out.println("=== DEMO DEL SISTEMA DE INVENTARIO ===\n");
+        
+        // Insertar datos
+        System.out.println("Insertando códigos: ");
+        for (int code : testData) {
+            System.out.print(code + " ");
+            inventory.insert(code);
+        }
+        System.out.println("\n");
+        
+        // Mostrar estadísticas
+        inventory.showStats();
+        
+        // Demostrar diferentes recorridos
+        inventory.showAscending();
+        inventory.showDescending();  
+        inventory.showHierarchical();
+        inventory.showByLevels();
+        
+        // Demostrar búsquedas
+        System.out.println("=== PRUEBAS DE BÚSQUEDA ===");
+        int[] searchCodes = {50, 25, 100, 80, 15};
+        for (int code : searchCodes) {
+            boolean found = inventory.search(code);
+            System.out.println("Código " + code + ": " + (found ? "ENCONTRADO" : "NO ENCONTRADO"));
+        }
+    }
+}
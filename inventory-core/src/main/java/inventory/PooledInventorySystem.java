@@ -0,0 +1,516 @@
+package inventory;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Sistema de Inventario vía Árbol AVL sobre un pool de arrays primitivos
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Struct-of-arrays: cada campo del nodo vive en su propio array paralelo
+ *    (code, left, right, height) y un nodo es simplemente un índice int
+ * 2. Sin objeto por nodo: se elimina la cabecera de objeto y las referencias,
+ *    lo que reduce la memoria por código a ~13 bytes (frente a los 32 de AVLNode)
+ * 3. Capacidad creciente: los arrays se amplían en bloque cuando se llenan
+ * 4. Misma semántica que InventorySystem: sin duplicados, mismos recorridos;
+ *    implementa InventoryIndex (Engine.POOLED_AVL)
+ *
+ */
+public class PooledInventorySystem implements InventoryIndex {
+
+    /**
+     * Índice reservado que representa "sin nodo"
+     * DECISIÓN: Usar la posición 0 como centinela con altura 0, así
+     * getHeight no necesita comprobar nulos
+     */
+    private static final int NIL = 0;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Pool de nodos: la posición i de cada array describe el nodo i
+    private int[] code;         // Código del producto
+    private int[] left;         // Índice del hijo izquierdo (menores)
+    private int[] right;        // Índice del hijo derecho (mayores)
+    private byte[] height;      // Altura para balanceado AVL (un AVL de ints nunca supera 46)
+
+    private int nextFree;       // Siguiente posición libre del pool
+    private int root;           // Índice de la raíz del árbol
+    private int size;           // Contador de elementos (para estadísticas)
+
+    /**
+     * Constructor
+     * Inicialización con capacidad por defecto
+     */
+    public PooledInventorySystem() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor con capacidad inicial
+     * DECISIÓN: Permite reservar el pool completo si se conoce el tamaño del catálogo
+     */
+    public PooledInventorySystem(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacidad negativa: " + initialCapacity);
+        }
+        int capacity = initialCapacity + 1;   // +1 por el centinela NIL
+        this.code = new int[capacity];
+        this.left = new int[capacity];
+        this.right = new int[capacity];
+        this.height = new byte[capacity];
+        this.nextFree = 1;
+        this.root = NIL;
+        this.size = 0;
+    }
+
+    // ======================== GESTIÓN DEL POOL ========================
+
+    /**
+     * Reserva un nodo hoja en el pool
+     * DECISIÓN: Crecimiento x1.5 para amortizar las copias sin desperdiciar
+     * demasiada memoria en catálogos grandes
+     */
+    private int allocate(int value) {
+        if (nextFree == code.length) {
+            grow();
+        }
+        int node = nextFree++;
+        code[node] = value;
+        left[node] = NIL;
+        right[node] = NIL;
+        height[node] = 1;       // Nodo hoja tiene altura 1
+        return node;
+    }
+
+    private void grow() {
+        int oldCapacity = code.length;
+        int newCapacity = oldCapacity + Math.max(oldCapacity >> 1, DEFAULT_CAPACITY);
+        if (newCapacity < 0) {
+            newCapacity = Integer.MAX_VALUE - 8;
+            if (oldCapacity >= newCapacity) {
+                throw new IllegalStateException("Pool de nodos lleno");
+            }
+        }
+        code = Arrays.copyOf(code, newCapacity);
+        left = Arrays.copyOf(left, newCapacity);
+        right = Arrays.copyOf(right, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+    }
+
+    /**
+     * Capacidad actual del pool (nodos reservables sin crecer)
+     */
+    public int getCapacity() {
+        return code.length - 1;
+    }
+
+    // MÉTODOS DE UTILIDAD AVL
+
+    /**
+     * Obtiene la altura de un nodo
+     * El centinela NIL tiene altura 0, no hace falta comprobar nulos
+     */
+    private int getHeight(int node) {
+        return height[node];
+    }
+
+    /**
+     * Calcula el factor de balance de un nodo
+     * Factor de balance = altura(izquierdo) - altura(derecho)
+     */
+    private int getBalance(int node) {
+        return (node == NIL) ? 0 : (height[left[node]] - height[right[node]]);
+    }
+
+    /**
+     * Actualiza la altura de un nodo basado en sus hijos
+     */
+    private void updateHeight(int node) {
+        if (node != NIL) {
+            height[node] = (byte) (1 + Math.max(height[left[node]], height[right[node]]));
+        }
+    }
+
+    // ======================== ROTACIONES AVL ========================
+
+    /**
+     * Rotación simple a la derecha
+     * DECISIÓN: Corrige desequilibrio izquierdo-izquierdo
+     *
+     * Antes:     y          Después:    x
+     *           / \                    / \
+     *          x   C                  A   y
+     *         / \                        / \
+     *        A   B                      B   C
+     */
+    private int rotateRight(int y) {
+        int x = left[y];
+        int B = right[x];
+
+        // Realizar rotación
+        right[x] = y;
+        left[y] = B;
+
+        // Actualizar alturas (orden importante: primero y, luego x)
+        updateHeight(y);
+        updateHeight(x);
+
+        return x;   // Nueva raíz del subárbol
+    }
+
+    /**
+     * Rotación simple a la izquierda
+     * DECISIÓN: Corrige desequilibrio derecho-derecho
+     */
+    private int rotateLeft(int x) {
+        int y = right[x];
+        int B = left[y];
+
+        // Realizar rotación
+        left[y] = x;
+        right[x] = B;
+
+        // Actualizar alturas
+        updateHeight(x);
+        updateHeight(y);
+
+        return y;   // Nueva raíz del subárbol
+    }
+
+    // ======================== INSERCIÓN ========================
+
+    /**
+     * Inserta un código en el sistema
+     */
+    @Override
+    public void insert(int value) {
+        root = insertAVL(root, value);
+    }
+
+    /**
+     * Inserción recursiva con balanceado AVL sobre índices del pool
+     *
+     * COMPLEJIDAD: O(log n) garantizado por el balanceado
+     */
+    private int insertAVL(int node, int value) {
+        // PASO 1: Inserción BST normal
+        if (node == NIL) {
+            size++;
+            return allocate(value);
+        }
+
+        if (value < code[node]) {
+            int child = insertAVL(left[node], value);   // allocate puede recolocar los arrays
+            left[node] = child;
+        }
+        else if (value > code[node]) {
+            int child = insertAVL(right[node], value);
+            right[node] = child;
+        }
+        else {
+            // DECISIÓN: No permitir duplicados (común en sistemas de inventario)
+            return node;
+        }
+
+        // PASO 2: Actualizar altura
+        updateHeight(node);
+
+        // PASO 3: Obtener factor de balance
+        int balance = getBalance(node);
+
+        // PASO 4: Realizar rotaciones si es necesario
+
+        // Caso Izquierdo-Izquierdo
+        if (balance > 1 && value < code[left[node]]) {
+            return rotateRight(node);
+        }
+
+        // Caso Derecho-Derecho
+        if (balance < -1 && value > code[right[node]]) {
+            return rotateLeft(node);
+        }
+
+        // Caso Izquierdo-Derecho
+        if (balance > 1 && value > code[left[node]]) {
+            left[node] = rotateLeft(left[node]);
+            return rotateRight(node);
+        }
+
+        // Caso Derecho-Izquierdo
+        if (balance < -1 && value < code[right[node]]) {
+            right[node] = rotateRight(right[node]);
+            return rotateLeft(node);
+        }
+
+        return node;    // Retornar nodo sin cambios si está balanceado
+    }
+
+    // ======================== BÚSQUEDA ========================
+
+    /**
+     * Busca un código específico en el sistema
+     *
+     * COMPLEJIDAD: O(log n) por el balanceado AVL
+     */
+    @Override
+    public boolean search(int value) {
+        return searchRecursive(root, value);
+    }
+
+    private boolean searchRecursive(int node, int value) {
+        // Caso base: nodo vacío
+        if (node == NIL) {
+            return false;
+        }
+
+        // Caso base: encontrado
+        if (value == code[node]) {
+            return true;
+        }
+
+        // Búsqueda recursiva
+        if (value < code[node]) {
+            return searchRecursive(left[node], value);
+        } else {
+            return searchRecursive(right[node], value);
+        }
+    }
+
+    // ======================== RECORRIDOS ========================
+
+    public void showAscending() {
+        System.out.println("=== ORDEN ASCENDENTE ===");
+        inOrderTraversal(root);
+        System.out.println("\n");
+    }
+
+    private void inOrderTraversal(int node) {
+        if (node != NIL) {
+            inOrderTraversal(left[node]);
+            System.out.print(code[node] + " ");
+            inOrderTraversal(right[node]);
+        }
+    }
+
+    public void showDescending() {
+        System.out.println("=== ORDEN DESCENDENTE ===");
+        reverseInOrder(root);
+        System.out.println("\n");
+    }
+
+    private void reverseInOrder(int node) {
+        if (node != NIL) {
+            reverseInOrder(right[node]);
+            System.out.print(code[node] + " ");
+            reverseInOrder(left[node]);
+        }
+    }
+
+    public void showHierarchical() {
+        System.out.println("=== RECORRIDO JERÁRQUICO (Padre->Hijos) ===");
+        preOrderTraversal(root);
+        System.out.println("\n");
+    }
+
+    private void preOrderTraversal(int node) {
+        if (node != NIL) {
+            System.out.print(code[node] + " ");
+            preOrderTraversal(left[node]);
+            preOrderTraversal(right[node]);
+        }
+    }
+
+    /**
+     * Muestra elementos nivel por nivel (Breadth-First)
+     * DECISIÓN: La cola es un int[] de índices; cada nodo entra una sola vez,
+     * por lo que basta con "size" posiciones
+     */
+    public void showByLevels() {
+        System.out.println("=== RECORRIDO POR NIVELES ===");
+        if (root == NIL) {
+            System.out.println("Árbol vacío");
+            return;
+        }
+
+        int[] queue = new int[size];
+        int front = 0, rear = 0;
+        queue[rear++] = root;
+
+        while (front < rear) {
+            int current = queue[front++];
+            System.out.print(code[current] + " ");
+
+            if (left[current] != NIL) {
+                queue[rear++] = left[current];
+            }
+            if (right[current] != NIL) {
+                queue[rear++] = right[current];
+            }
+        }
+        System.out.println("\n");
+    }
+
+    // ======================== ITERADORES ========================
+
+    /**
+     * Iterador perezoso en orden ascendente
+     * DECISIÓN: Pila de índices acotada por la altura, como el iterador de InventorySystem
+     *
+     * El inventario no debe modificarse mientras se recorre
+     */
+    @Override
+    public PrimitiveIterator.OfInt ascendingIterator() {
+        return new InOrderIterator();
+    }
+
+    private class InOrderIterator implements PrimitiveIterator.OfInt {
+        private final int[] stack = new int[getHeight(root)];
+        private int top = 0;
+
+        InOrderIterator() {
+            pushSpine(root);
+        }
+
+        /**
+         * Apila el camino hacia el menor código del subárbol
+         */
+        private void pushSpine(int node) {
+            while (node != NIL) {
+                stack[top++] = node;
+                node = left[node];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (top == 0) {
+                throw new NoSuchElementException();
+            }
+            int node = stack[--top];
+            pushSpine(right[node]);
+            return code[node];
+        }
+    }
+
+    // ======================== MÉTODOS AUXILIARES ========================
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    /**
+     * Bytes ocupados por el pool (sin contar las cabeceras de los 4 arrays)
+     * DECISIÓN: Incluye la holgura de capacidad, que es memoria realmente reservada
+     */
+    public long getPoolBytes() {
+        return (long) code.length * (Integer.BYTES * 3 + Byte.BYTES);
+    }
+
+    @Override
+    public void showStats() {
+        System.out.println("=== ESTADÍSTICAS DEL SISTEMA ===");
+        System.out.println("Total de códigos: " + size);
+        System.out.println("Altura del árbol: " + getHeight(root));
+        System.out.println("Árbol balanceado: " + isBalanced(root));
+        System.out.println("Capacidad del pool: " + getCapacity());
+        System.out.println("Bytes del pool: " + getPoolBytes());
+        System.out.println("\n");
+    }
+
+    private boolean isBalanced(int node) {
+        if (node == NIL) return true;
+
+        int balance = getBalance(node);
+        return (Math.abs(balance) <= 1 && isBalanced(left[node]) && isBalanced(right[node]));
+    }
+
+    // ======================== COMPARACIÓN DE MEMORIA ========================
+
+    /**
+     * Mide la memoria por código de ambos motores
+     * DECISIÓN: Medición empírica con Runtime (heap usado tras GC) para no
+     * depender de herramientas externas; es aproximada pero reproducible
+     *
+     * Estimación teórica (JVM 64 bits, compressed oops):
+     * - AVLNode (clase static): cabecera 12 + code 4 + left 4 + right 4 + height 4
+     *   + subtreeSize 4 = 32 bytes
+     * - Pool: code 4 + left 4 + right 4 + height 1 = 13 bytes (+ holgura de crecimiento)
+     */
+    private static void compareMemory(int n) {
+        System.out.println("=== COMPARACIÓN DE MEMORIA (" + n + " códigos) ===");
+
+        long before = usedHeap();
+        InventorySystem objects = new InventorySystem();
+        for (int i = 0; i < n; i++) {
+            objects.insert(i);
+        }
+        long objectBytes = usedHeap() - before;
+        System.out.println("InventorySystem (AVLNode): " + objectBytes / n + " bytes/código");
+        objects = null;
+
+        before = usedHeap();
+        PooledInventorySystem pooled = new PooledInventorySystem();
+        for (int i = 0; i < n; i++) {
+            pooled.insert(i);
+        }
+        long pooledBytes = usedHeap() - before;
+        System.out.println("PooledInventorySystem (arrays): " + pooledBytes / n + " bytes/código"
+                + " (pool: " + pooled.getPoolBytes() / n + ")");
+        System.out.println("\n");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // ======================== CLASE DE PRUEBA ========================
+
+    public static void main(String[] args) {
+        PooledInventorySystem inventory = new PooledInventorySystem();
+
+        int[] testData = {50, 30, 70, 20, 40, 60, 80, 10, 25, 35, 45};
+
+        System.out.println("=== DEMO DEL INVENTARIO SOBRE POOL DE ARRAYS ===\n");
+
+        System.out.println("Insertando códigos: ");
+        for (int value : testData) {
+            System.out.print(value + " ");
+            inventory.insert(value);
+        }
+        System.out.println("\n");
+
+        inventory.showStats();
+        inventory.showAscending();
+        inventory.showDescending();
+        inventory.showHierarchical();
+        inventory.showByLevels();
+
+        System.out.println("=== PRUEBAS DE BÚSQUEDA ===");
+        int[] searchCodes = {50, 25, 100, 80, 15};
+        for (int value : searchCodes) {
+            boolean found = inventory.search(value);
+            System.out.println("Código " + value + ": " + (found ? "ENCONTRADO" : "NO ENCONTRADO"));
+        }
+        System.out.println();
+
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+        compareMemory(n);
+    }
+}
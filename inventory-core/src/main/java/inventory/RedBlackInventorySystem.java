@@ -0,0 +1,387 @@
+package inventory;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Sistema de Inventario vía Árbol Rojo-Negro
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Árbol rojo-negro clásico (Cormen et al.): altura <= 2 log2(n + 1), algo
+ *    mayor que la de un AVL, pero como mucho 2 rotaciones por inserción
+ * 2. Inserción iterativa con referencia al padre: el rebalanceo sube desde
+ *    la hoja y se detiene en cuanto el árbol vuelve a ser válido
+ * 3. El padre también permite iterar en orden sin pila auxiliar
+ * 4. Misma semántica que InventorySystem: sin duplicados
+ *
+ */
+public class RedBlackInventorySystem implements InventoryIndex {
+
+    /**
+     * Nodo interno del árbol rojo-negro
+     */
+    private static class RBNode {
+        int code;           // Código del producto
+        RBNode left;        // Hijo izquierdo (menores)
+        RBNode right;       // Hijo derecho (mayores)
+        RBNode parent;      // Padre (null en la raíz)
+        boolean red;        // Color: rojo o negro
+
+        RBNode(int code, RBNode parent) {
+            this.code = code;
+            this.parent = parent;
+            this.red = true;    // Los nodos nuevos entran rojos
+        }
+    }
+
+    private RBNode root;        // Raíz del árbol
+    private int size;           // Contador de elementos (para estadísticas)
+    private long rotations;     // Rotaciones realizadas (para estadísticas)
+
+    public RedBlackInventorySystem() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    // ======================== ROTACIONES ========================
+
+    /**
+     * Rotación simple a la izquierda alrededor de x
+     *
+     * Antes:   x            Después:    y
+     *         / \                      / \
+     *        A   y                    x   C
+     *           / \                  / \
+     *          B   C                A   B
+     */
+    private void rotateLeft(RBNode x) {
+        RBNode y = x.right;
+        x.right = y.left;
+        if (y.left != null) {
+            y.left.parent = x;
+        }
+        replaceChild(x, y);
+        y.left = x;
+        x.parent = y;
+        rotations++;
+    }
+
+    /**
+     * Rotación simple a la derecha alrededor de y (simétrica de rotateLeft)
+     */
+    private void rotateRight(RBNode y) {
+        RBNode x = y.left;
+        y.left = x.right;
+        if (x.right != null) {
+            x.right.parent = y;
+        }
+        replaceChild(y, x);
+        x.right = y;
+        y.parent = x;
+        rotations++;
+    }
+
+    /**
+     * Cuelga "replacement" del padre de "node" en su lugar
+     */
+    private void replaceChild(RBNode node, RBNode replacement) {
+        RBNode parent = node.parent;
+        replacement.parent = parent;
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.left == node) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+    }
+
+    // ======================== INSERCIÓN ========================
+
+    /**
+     * Inserta un código en el sistema
+     *
+     * COMPLEJIDAD: O(log n), con como mucho 2 rotaciones
+     */
+    @Override
+    public void insert(int code) {
+        RBNode parent = null;
+        RBNode node = root;
+        while (node != null) {
+            parent = node;
+            if (code < node.code) {
+                node = node.left;
+            } else if (code > node.code) {
+                node = node.right;
+            } else {
+                // DECISIÓN: No permitir duplicados (común en sistemas de inventario)
+                return;
+            }
+        }
+
+        RBNode inserted = new RBNode(code, parent);
+        if (parent == null) {
+            root = inserted;
+        } else if (code < parent.code) {
+            parent.left = inserted;
+        } else {
+            parent.right = inserted;
+        }
+        size++;
+        fixAfterInsert(inserted);
+    }
+
+    /**
+     * Restaura las propiedades rojo-negro tras insertar un nodo rojo
+     * DECISIÓN: Con tío rojo basta recolorear y subir dos niveles; con tío
+     * negro una o dos rotaciones dejan el subárbol válido y se termina
+     */
+    private void fixAfterInsert(RBNode node) {
+        while (node.parent != null && node.parent.red) {
+            RBNode parent = node.parent;
+            RBNode grandparent = parent.parent;     // Existe: la raíz es negra
+
+            if (parent == grandparent.left) {
+                RBNode uncle = grandparent.right;
+                if (uncle != null && uncle.red) {
+                    // Tío rojo: recolorear y seguir desde el abuelo
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.right) {
+                        // Caso Izquierdo-Derecho: pasar a Izquierdo-Izquierdo
+                        rotateLeft(parent);
+                        node = parent;
+                        parent = node.parent;
+                    }
+                    // Caso Izquierdo-Izquierdo
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateRight(grandparent);
+                }
+            } else {
+                RBNode uncle = grandparent.left;
+                if (uncle != null && uncle.red) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.left) {
+                        // Caso Derecho-Izquierdo: pasar a Derecho-Derecho
+                        rotateRight(parent);
+                        node = parent;
+                        parent = node.parent;
+                    }
+                    // Caso Derecho-Derecho
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        root.red = false;
+    }
+
+    // ======================== BÚSQUEDA ========================
+
+    /**
+     * Busca un código específico en el sistema
+     *
+     * COMPLEJIDAD: O(log n)
+     */
+    @Override
+    public boolean search(int code) {
+        RBNode node = root;
+        while (node != null) {
+            if (code == node.code) {
+                return true;
+            }
+            node = (code < node.code) ? node.left : node.right;
+        }
+        return false;
+    }
+
+    // ======================== RECORRIDOS ========================
+
+    /**
+     * Muestra elementos en orden ascendente
+     */
+    public void showAscending() {
+        showAscending(new CodeWriter(System.out));
+    }
+
+    public void showAscending(CodeWriter out) {
+        out.writeText("=== ORDEN ASCENDENTE ===\n");
+        for (PrimitiveIterator.OfInt it = ascendingIterator(); it.hasNext(); ) {
+            out.writeCode(it.nextInt());
+        }
+        out.writeText("\n\n");
+        out.flush();
+    }
+
+    public void showDescending() {
+        showDescending(new CodeWriter(System.out));
+    }
+
+    public void showDescending(CodeWriter out) {
+        out.writeText("=== ORDEN DESCENDENTE ===\n");
+        for (PrimitiveIterator.OfInt it = descendingIterator(); it.hasNext(); ) {
+            out.writeCode(it.nextInt());
+        }
+        out.writeText("\n\n");
+        out.flush();
+    }
+
+    // ======================== ITERADORES ========================
+
+    /**
+     * Iterador perezoso en orden ascendente
+     * DECISIÓN: Sucesor in-order mediante los padres, sin pila auxiliar
+     *
+     * El inventario no debe modificarse mientras se recorre
+     */
+    @Override
+    public PrimitiveIterator.OfInt ascendingIterator() {
+        return new SuccessorIterator(false);
+    }
+
+    /**
+     * Iterador perezoso en orden descendente
+     */
+    public PrimitiveIterator.OfInt descendingIterator() {
+        return new SuccessorIterator(true);
+    }
+
+    private class SuccessorIterator implements PrimitiveIterator.OfInt {
+        private final boolean descending;
+        private RBNode next;
+
+        SuccessorIterator(boolean descending) {
+            this.descending = descending;
+            this.next = (root == null) ? null : extreme(root);
+        }
+
+        /**
+         * Extremo (menor o mayor según el sentido) del subárbol
+         */
+        private RBNode extreme(RBNode node) {
+            RBNode child = descending ? node.right : node.left;
+            while (child != null) {
+                node = child;
+                child = descending ? node.right : node.left;
+            }
+            return node;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public int nextInt() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            RBNode node = next;
+            RBNode forward = descending ? node.left : node.right;
+            if (forward != null) {
+                next = extreme(forward);
+            } else {
+                // Subir mientras se venga del lado ya recorrido
+                RBNode child = node;
+                RBNode parent = node.parent;
+                while (parent != null && child == (descending ? parent.left : parent.right)) {
+                    child = parent;
+                    parent = parent.parent;
+                }
+                next = parent;
+            }
+            return node.code;
+        }
+    }
+
+    // ======================== MÉTODOS AUXILIARES ========================
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Altura del árbol (0 si está vacío)
+     */
+    public int getHeight() {
+        return height(root);
+    }
+
+    private int height(RBNode node) {
+        return (node == null) ? 0 : 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    @Override
+    public void showStats() {
+        System.out.println("=== ESTADÍSTICAS DEL SISTEMA ===");
+        System.out.println("Total de códigos: " + size);
+        System.out.println("Altura del árbol: " + getHeight());
+        System.out.println("Altura negra: " + blackHeight(root));
+        System.out.println("Rotaciones acumuladas: " + rotations);
+        System.out.println("\n");
+    }
+
+    /**
+     * Altura negra del subárbol, o -1 si viola las propiedades rojo-negro
+     * (rojo con hijo rojo o caminos con distinto número de negros)
+     */
+    private int blackHeight(RBNode node) {
+        if (node == null) {
+            return 0;
+        }
+        if (node.red && ((node.left != null && node.left.red) || (node.right != null && node.right.red))) {
+            return -1;
+        }
+        int left = blackHeight(node.left);
+        int right = blackHeight(node.right);
+        if (left < 0 || left != right) {
+            return -1;
+        }
+        return left + (node.red ? 0 : 1);
+    }
+
+    // ======================== CLASE DE PRUEBA ========================
+
+    public static void main(String[] args) {
+        RedBlackInventorySystem inventory = new RedBlackInventorySystem();
+
+        int[] testData = {50, 30, 70, 20, 40, 60, 80, 10, 25, 35, 45};
+
+        System.out.println("=== DEMO DEL INVENTARIO SOBRE ÁRBOL ROJO-NEGRO ===\n");
+
+        System.out.println("Insertando códigos: ");
+        for (int code : testData) {
+            System.out.print(code + " ");
+            inventory.insert(code);
+        }
+        System.out.println("\n");
+
+        inventory.showStats();
+        inventory.showAscending();
+        inventory.showDescending();
+
+        System.out.println("=== PRUEBAS DE BÚSQUEDA ===");
+        int[] searchCodes = {50, 25, 100, 80, 15};
+        for (int code : searchCodes) {
+            boolean found = inventory.search(code);
+            System.out.println("Código " + code + ": " + (found ? "ENCONTRADO" : "NO ENCONTRADO"));
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package inventory;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Sistema de Inventario vía Skip List
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Lista enlazada ordenada con niveles de atajos aleatorios (Pugh): O(log n)
+ *    esperado sin rotaciones ni rebalanceo, cada alta solo toca sus vecinos
+ * 2. Probabilidad de subir de nivel p = 1/4: ~1,33 punteros por código en
+ *    lugar de los 2 de p = 1/2, con el mismo orden de complejidad
+ * 3. Generador xorshift propio: barato y reproducible a partir de una semilla
+ * 4. El nivel 0 es la lista completa, así que el recorrido ordenado es lineal
+ * 5. Misma semántica que InventorySystem: sin duplicados
+ *
+ */
+public class SkipListInventorySystem implements InventoryIndex {
+
+    /**
+     * Niveles máximos
+     * DECISIÓN: Con p = 1/4, 16 niveles bastan para 4^16 = 2^32 códigos
+     */
+    private static final int MAX_LEVEL = 16;
+
+    private static final long DEFAULT_SEED = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Nodo de la lista: next[i] es el siguiente nodo en el nivel i
+     */
+    private static class SkipNode {
+        final int code;             // Código del producto
+        final SkipNode[] next;      // Sucesores por nivel (length = nivel del nodo)
+
+        SkipNode(int code, int level) {
+            this.code = code;
+            this.next = new SkipNode[level];
+        }
+    }
+
+    private final SkipNode head = new SkipNode(0, MAX_LEVEL);  // Cabecera sin código
+    private int level;          // Niveles en uso (1..MAX_LEVEL)
+    private int size;           // Contador de elementos (para estadísticas)
+    private long seed;          // Estado del generador xorshift
+
+    // Predecesores por nivel durante una inserción (reutilizable)
+    private final SkipNode[] update = new SkipNode[MAX_LEVEL];
+
+    public SkipListInventorySystem() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Constructor con semilla
+     * DECISIÓN: Misma semilla y mismas altas producen la misma estructura
+     */
+    public SkipListInventorySystem(long seed) {
+        this.level = 1;
+        this.size = 0;
+        this.seed = (seed == 0) ? DEFAULT_SEED : seed;    // xorshift no admite 0
+    }
+
+    // ======================== NIVELES ALEATORIOS ========================
+
+    /**
+     * Nivel de un nodo nuevo: 1 con prob. 3/4, 2 con 3/16, ...
+     * DECISIÓN: Cada par de bits bajos a cero de un número aleatorio es una
+     * subida con probabilidad 1/4, así basta una sola llamada al generador
+     */
+    private int randomLevel() {
+        long x = seed;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        seed = x;
+        int level = 1 + Long.numberOfTrailingZeros(x) / 2;
+        return Math.min(level, MAX_LEVEL);
+    }
+
+    // ======================== INSERCIÓN ========================
+
+    /**
+     * Inserta un código en el sistema
+     *
+     * COMPLEJIDAD: O(log n) esperado
+     */
+    @Override
+    public void insert(int code) {
+        SkipNode node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && node.next[i].code < code) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        SkipNode candidate = node.next[0];
+        if (candidate != null && candidate.code == code) {
+            // DECISIÓN: No permitir duplicados (común en sistemas de inventario)
+            releasePredecessors();
+            return;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                update[i] = head;
+            }
+            level = nodeLevel;
+        }
+
+        SkipNode inserted = new SkipNode(code, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+        }
+        releasePredecessors();
+        size++;
+    }
+
+    /**
+     * Vacía update[] al terminar cada alta, haya insertado o no
+     * DECISIÓN: Es un campo reutilizado entre altas; no debe retener nodos
+     * fuera de la inserción que los usó
+     */
+    private void releasePredecessors() {
+        for (int i = 0; i < level; i++) {
+            update[i] = null;
+        }
+    }
+
+    // ======================== BÚSQUEDA ========================
+
+    /**
+     * Busca un código específico en el sistema
+     *
+     * COMPLEJIDAD: O(log n) esperado
+     */
+    @Override
+    public boolean search(int code) {
+        SkipNode node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            SkipNode next = node.next[i];
+            while (next != null && next.code < code) {
+                node = next;
+                next = node.next[i];
+            }
+            if (next != null && next.code == code) {
+                return true;        // Encontrado en un nivel alto: no hace falta bajar
+            }
+        }
+        return false;
+    }
+
+    // ======================== RECORRIDOS ========================
+
+    /**
+     * Muestra elementos en orden ascendente (nivel 0 de la lista)
+     */
+    public void showAscending() {
+        showAscending(new CodeWriter(System.out));
+    }
+
+    public void showAscending(CodeWriter out) {
+        out.writeText("=== ORDEN ASCENDENTE ===\n");
+        for (SkipNode node = head.next[0]; node != null; node = node.next[0]) {
+            out.writeCode(node.code);
+        }
+        out.writeText("\n\n");
+        out.flush();
+    }
+
+    /**
+     * Muestra los códigos de cada nivel, del más alto al nivel 0
+     * DECISIÓN: Equivalente al recorrido por niveles de los árboles: de los
+     * atajos más largos a la lista completa
+     */
+    public void showByLevels() {
+        showByLevels(new CodeWriter(System.out));
+    }
+
+    public void showByLevels(CodeWriter out) {
+        out.writeText("=== RECORRIDO POR NIVELES ===\n");
+        if (size == 0) {
+            out.writeText("Lista vacía\n");
+            out.flush();
+            return;
+        }
+        for (int i = level - 1; i >= 0; i--) {
+            out.writeText("Nivel " + i + ": ");
+            for (SkipNode node = head.next[i]; node != null; node = node.next[i]) {
+                out.writeCode(node.code);
+            }
+            out.writeText("\n");
+        }
+        out.writeText("\n");
+        out.flush();
+    }
+
+    // ======================== ITERADORES ========================
+
+    /**
+     * Iterador perezoso en orden ascendente
+     *
+     * El inventario no debe modificarse mientras se recorre
+     */
+    @Override
+    public PrimitiveIterator.OfInt ascendingIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private SkipNode next = head.next[0];
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                int code = next.code;
+                next = next.next[0];
+                return code;
+            }
+        };
+    }
+
+    // ======================== MÉTODOS AUXILIARES ========================
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Niveles en uso
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public void showStats() {
+        long pointers = 0;
+        for (SkipNode node = head.next[0]; node != null; node = node.next[0]) {
+            pointers += node.next.length;
+        }
+        System.out.println("=== ESTADÍSTICAS DEL SISTEMA ===");
+        System.out.println("Total de códigos: " + size);
+        System.out.println("Niveles en uso: " + level);
+        System.out.printf("Punteros por código: %.2f%n", (size == 0) ? 0.0 : (double) pointers / size);
+        System.out.println("\n");
+    }
+
+    // ======================== CLASE DE PRUEBA ========================
+
+    public static void main(String[] args) {
+        SkipListInventorySystem inventory = new SkipListInventorySystem();
+
+        int[] testData = {50, 30, 70, 20, 40, 60, 80, 10, 25, 35, 45};
+
+        System.out.println("=== DEMO DEL INVENTARIO SOBRE SKIP LIST ===\n");
+
+        System.out.println("Insertando códigos: ");
+        for (int code : testData) {
+            System.out.print(code + " ");
+            inventory.insert(code);
+        }
+        System.out.println("\n");
+
+        inventory.showStats();
+        inventory.showAscending();
+        inventory.showByLevels();
+
+        System.out.println("=== PRUEBAS DE BÚSQUEDA ===");
+        int[] searchCodes = {50, 25, 100, 80, 15};
+        for (int code : searchCodes) {
+            boolean found = inventory.search(code);
+            System.out.println("Código " + code + ": " + (found ? "ENCONTRADO" : "NO ENCONTRADO"));
+        }
+    }
+}
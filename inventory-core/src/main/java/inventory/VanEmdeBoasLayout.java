@@ -0,0 +1,152 @@
+package inventory;
+
+/**
+ * Instantánea de solo lectura de los códigos en disposición de van Emde Boas
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Árbol binario completo de altura H partido recursivamente en un árbol
+ *    superior de altura H/2 y sus árboles inferiores, cada uno guardado en un
+ *    bloque contiguo: cualquier bloque de memoria (línea de caché, página,
+ *    entrada de TLB) contiene un subárbol de altura proporcional a su tamaño,
+ *    sin ajustar ningún parámetro (cache-oblivious)
+ * 2. Navegación sin punteros (Brodal, Fagerberg y Jacob): para cada
+ *    profundidad d se precalcula el tamaño del árbol superior T[d], el de los
+ *    inferiores B[d] y la profundidad D[d] de la raíz que los contiene; la
+ *    posición de un nodo sale de su índice BFS con una multiplicación
+ * 3. Para n que no completa un nivel, el árbol se rellena con Integer.MAX_VALUE
+ *    al final del orden in-order (hasta 2x de memoria en el peor caso)
+ *
+ */
+public class VanEmdeBoasLayout implements FrozenSnapshot {
+
+    private final int[] tree;       // Códigos en orden van Emde Boas
+    private final int size;         // Códigos reales (sin relleno)
+    private final int height;       // Altura H del árbol completo
+    private final int maxCode;      // Mayor código real (descarta el relleno)
+
+    // Parámetros de navegación por profundidad
+    private final int[] topSize;        // T[d]
+    private final int[] bottomSize;     // B[d]
+    private final int[] topRootDepth;   // D[d]
+
+    // Posiciones por profundidad durante la búsqueda (altura <= 30); un array
+    // nuevo por llamada costaba ~50% más que reutilizar uno por hilo
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[32]);
+
+    /**
+     * Construye la instantánea a partir de sorted[0, count), ordenado y sin
+     * duplicados (la secuencia in-order del árbol AVL)
+     *
+     * COMPLEJIDAD: O(n)
+     */
+    public VanEmdeBoasLayout(int[] sorted, int count) {
+        this.size = count;
+        this.height = 32 - Integer.numberOfLeadingZeros(count);    // ceil(log2(count + 1))
+        if (height > 30) {
+            throw new IllegalArgumentException("Demasiados códigos para la disposición vEB: " + count);
+        }
+        this.maxCode = (count > 0) ? sorted[count - 1] : 0;
+        this.tree = new int[(1 << height) - 1];
+        this.topSize = new int[Math.max(height, 1)];
+        this.bottomSize = new int[Math.max(height, 1)];
+        this.topRootDepth = new int[Math.max(height, 1)];
+
+        prepare(0, height);
+        if (height > 0) {
+            place(sorted, 1, 0, height, 0);
+        }
+    }
+
+    /**
+     * Calcula T, B y D para el subárbol de altura h cuya raíz está a profundidad rootDepth
+     * DECISIÓN: Todos los árboles inferiores de un mismo corte son idénticos,
+     * así que basta una llamada por nivel de la recursión
+     */
+    private void prepare(int rootDepth, int h) {
+        if (h <= 1) {
+            return;
+        }
+        int topHeight = h >> 1;
+        int bottomHeight = h - topHeight;
+        int bottomDepth = rootDepth + topHeight;
+
+        topRootDepth[bottomDepth] = rootDepth;
+        topSize[bottomDepth] = (1 << topHeight) - 1;
+        bottomSize[bottomDepth] = (1 << bottomHeight) - 1;
+
+        prepare(rootDepth, topHeight);
+        prepare(bottomDepth, bottomHeight);
+    }
+
+    /**
+     * Coloca el subárbol de altura h con raíz en el índice BFS "bfs" (profundidad
+     * "depth") a partir de la posición "pos": primero el árbol superior y luego
+     * los inferiores de izquierda a derecha
+     *
+     * @return siguiente posición libre
+     */
+    private int place(int[] sorted, int bfs, int depth, int h, int pos) {
+        if (h == 1) {
+            tree[pos] = codeAt(sorted, bfs, depth);
+            return pos + 1;
+        }
+        int topHeight = h >> 1;
+        int bottomHeight = h - topHeight;
+
+        pos = place(sorted, bfs, depth, topHeight, pos);
+        int bottoms = 1 << topHeight;
+        for (int j = 0; j < bottoms; j++) {
+            pos = place(sorted, (bfs << topHeight) + j, depth + topHeight, bottomHeight, pos);
+        }
+        return pos;
+    }
+
+    /**
+     * Código del nodo BFS "bfs" a profundidad "depth" en el árbol completo
+     * DECISIÓN: Su posición in-order es (2k + 1) * 2^(H-1-depth) - 1, con k su
+     * desplazamiento dentro del nivel; las posiciones >= size son relleno
+     */
+    private int codeAt(int[] sorted, int bfs, int depth) {
+        long k = bfs - (1L << depth);
+        long rank = ((2 * k + 1) << (height - 1 - depth)) - 1;
+        return (rank < size) ? sorted[(int) rank] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Indica si el código está en la instantánea
+     *
+     * COMPLEJIDAD: O(log n) comparaciones, O(log_B n) transferencias de bloque
+     * para cualquier tamaño de bloque B
+     */
+    @Override
+    public boolean contains(int code) {
+        if (size == 0 || code > maxCode) {
+            return false;       // También descarta el relleno
+        }
+        int[] pos = SCRATCH.get();
+        pos[0] = 0;
+        int bfs = 1;
+        for (int d = 0; ; ) {
+            int value = tree[pos[d]];
+            if (value == code) {
+                return true;
+            }
+            bfs = 2 * bfs + ((code > value) ? 1 : 0);
+            if (++d == height) {
+                return false;
+            }
+            pos[d] = pos[topRootDepth[d]] + topSize[d] + (bfs & topSize[d]) * bottomSize[d];
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getBytes() {
+        return (long) tree.length * Integer.BYTES;
+    }
+}
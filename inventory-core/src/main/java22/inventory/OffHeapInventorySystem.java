@@ -0,0 +1,509 @@
+package inventory;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Sistema de Inventario vía Árbol AVL almacenado fuera del heap
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Foreign Memory API: los nodos viven en un MemorySegment reservado en un
+ *    Arena, memoria que el GC nunca recorre ni marca
+ * 2. Registro fijo de 16 bytes por nodo (code, left, right, height), cuatro
+ *    nodos por línea de caché de 64 bytes
+ * 3. Liberación explícita: close() devuelve la memoria al sistema operativo;
+ *    cualquier acceso posterior lanza IllegalStateException
+ * 4. Misma semántica que InventorySystem: sin duplicados, mismos recorridos
+ * 5. Arena compartido (Arena.ofShared): como los demás motores, cualquier hilo
+ *    puede usarlo si la sincronización es externa. Uno confinado lanzaría
+ *    WrongThreadException fuera del hilo creador; el precio es que close() y
+ *    cada crecimiento (que cierra el Arena anterior) son más lentos
+ *
+ * REQUISITOS: JDK 22+ (o JDK 21 con --enable-preview)
+ *
+ */
+public class OffHeapInventorySystem implements AutoCloseable {
+
+    // Desplazamientos de cada campo dentro del registro de un nodo
+    private static final long CODE_OFFSET = 0;
+    private static final long LEFT_OFFSET = 4;
+    private static final long RIGHT_OFFSET = 8;
+    private static final long HEIGHT_OFFSET = 12;
+    private static final long NODE_BYTES = 16;
+
+    /**
+     * Índice reservado que representa "sin nodo"
+     * DECISIÓN: El registro 0 queda a cero (altura 0), igual que en PooledInventorySystem
+     */
+    private static final int NIL = 0;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private Arena arena;            // Propietario de la memoria nativa actual
+    private MemorySegment nodes;    // Registros de nodos, indexados por int
+    private int capacity;           // Registros disponibles (incluido el centinela)
+
+    private int nextFree;           // Siguiente registro libre
+    private int root;               // Índice de la raíz del árbol
+    private int size;               // Contador de elementos (para estadísticas)
+
+    public OffHeapInventorySystem() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor con capacidad inicial
+     * DECISIÓN: Reservar de antemano evita copias al crecer en catálogos conocidos
+     */
+    public OffHeapInventorySystem(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacidad negativa: " + initialCapacity);
+        }
+        this.capacity = initialCapacity + 1;   // +1 por el centinela NIL
+        this.arena = Arena.ofShared();
+        this.nodes = arena.allocate(capacity * NODE_BYTES, NODE_BYTES);   // Memoria a cero
+        this.nextFree = 1;
+        this.root = NIL;
+        this.size = 0;
+    }
+
+    // ======================== ACCESO A CAMPOS ========================
+
+    private int code(int node) {
+        return nodes.get(ValueLayout.JAVA_INT, node * NODE_BYTES + CODE_OFFSET);
+    }
+
+    private int left(int node) {
+        return nodes.get(ValueLayout.JAVA_INT, node * NODE_BYTES + LEFT_OFFSET);
+    }
+
+    private int right(int node) {
+        return nodes.get(ValueLayout.JAVA_INT, node * NODE_BYTES + RIGHT_OFFSET);
+    }
+
+    private int getHeight(int node) {
+        return nodes.get(ValueLayout.JAVA_INT, node * NODE_BYTES + HEIGHT_OFFSET);
+    }
+
+    private void setLeft(int node, int child) {
+        nodes.set(ValueLayout.JAVA_INT, node * NODE_BYTES + LEFT_OFFSET, child);
+    }
+
+    private void setRight(int node, int child) {
+        nodes.set(ValueLayout.JAVA_INT, node * NODE_BYTES + RIGHT_OFFSET, child);
+    }
+
+    private void setHeight(int node, int height) {
+        nodes.set(ValueLayout.JAVA_INT, node * NODE_BYTES + HEIGHT_OFFSET, height);
+    }
+
+    // ======================== GESTIÓN DE MEMORIA ========================
+
+    /**
+     * Reserva un registro hoja
+     * DECISIÓN: Al llenarse se reserva un segmento x2 en un Arena nuevo, se copia
+     * y se cierra el anterior, de modo que nunca quedan segmentos huérfanos
+     */
+    private int allocate(int value) {
+        if (nextFree == capacity) {
+            grow();
+        }
+        int node = nextFree++;
+        nodes.set(ValueLayout.JAVA_INT, node * NODE_BYTES + CODE_OFFSET, value);
+        setLeft(node, NIL);
+        setRight(node, NIL);
+        setHeight(node, 1);     // Nodo hoja tiene altura 1
+        return node;
+    }
+
+    private void grow() {
+        if (capacity == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Segmento de nodos lleno");
+        }
+        int newCapacity = (int) Math.min((long) capacity * 2, Integer.MAX_VALUE);
+        Arena newArena = Arena.ofShared();
+        MemorySegment newNodes = newArena.allocate(newCapacity * NODE_BYTES, NODE_BYTES);
+        MemorySegment.copy(nodes, 0, newNodes, 0, capacity * NODE_BYTES);
+        arena.close();
+        arena = newArena;
+        nodes = newNodes;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Libera la memoria nativa del árbol
+     * DECISIÓN: Idempotente; tras cerrar, el inventario queda inutilizable
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+            nodes = MemorySegment.NULL;
+            capacity = 0;
+            root = NIL;
+            size = 0;
+        }
+    }
+
+    private void ensureOpen() {
+        if (arena == null) {
+            throw new IllegalStateException("Inventario cerrado");
+        }
+    }
+
+    // MÉTODOS DE UTILIDAD AVL
+
+    private int getBalance(int node) {
+        return (node == NIL) ? 0 : (getHeight(left(node)) - getHeight(right(node)));
+    }
+
+    private void updateHeight(int node) {
+        if (node != NIL) {
+            setHeight(node, 1 + Math.max(getHeight(left(node)), getHeight(right(node))));
+        }
+    }
+
+    // ======================== ROTACIONES AVL ========================
+
+    /**
+     * Rotación simple a la derecha
+     * DECISIÓN: Corrige desequilibrio izquierdo-izquierdo
+     */
+    private int rotateRight(int y) {
+        int x = left(y);
+        int B = right(x);
+
+        setRight(x, y);
+        setLeft(y, B);
+
+        updateHeight(y);
+        updateHeight(x);
+
+        return x;
+    }
+
+    /**
+     * Rotación simple a la izquierda
+     * DECISIÓN: Corrige desequilibrio derecho-derecho
+     */
+    private int rotateLeft(int x) {
+        int y = right(x);
+        int B = left(y);
+
+        setLeft(y, x);
+        setRight(x, B);
+
+        updateHeight(x);
+        updateHeight(y);
+
+        return y;
+    }
+
+    // ======================== INSERCIÓN ========================
+
+    public void insert(int value) {
+        ensureOpen();
+        root = insertAVL(root, value);
+    }
+
+    /**
+     * Inserción recursiva con balanceado AVL sobre registros del segmento
+     *
+     * COMPLEJIDAD: O(log n) garantizado por el balanceado
+     */
+    private int insertAVL(int node, int value) {
+        // PASO 1: Inserción BST normal
+        if (node == NIL) {
+            size++;
+            return allocate(value);
+        }
+
+        int nodeCode = code(node);
+        if (value < nodeCode) {
+            setLeft(node, insertAVL(left(node), value));
+        }
+        else if (value > nodeCode) {
+            setRight(node, insertAVL(right(node), value));
+        }
+        else {
+            // DECISIÓN: No permitir duplicados (común en sistemas de inventario)
+            return node;
+        }
+
+        // PASO 2: Actualizar altura
+        updateHeight(node);
+
+        // PASO 3: Obtener factor de balance
+        int balance = getBalance(node);
+
+        // PASO 4: Realizar rotaciones si es necesario
+
+        // Caso Izquierdo-Izquierdo
+        if (balance > 1 && value < code(left(node))) {
+            return rotateRight(node);
+        }
+
+        // Caso Derecho-Derecho
+        if (balance < -1 && value > code(right(node))) {
+            return rotateLeft(node);
+        }
+
+        // Caso Izquierdo-Derecho
+        if (balance > 1 && value > code(left(node))) {
+            setLeft(node, rotateLeft(left(node)));
+            return rotateRight(node);
+        }
+
+        // Caso Derecho-Izquierdo
+        if (balance < -1 && value < code(right(node))) {
+            setRight(node, rotateRight(right(node)));
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    // ======================== BÚSQUEDA ========================
+
+    /**
+     * Busca un código específico en el sistema
+     * DECISIÓN: Descenso iterativo; cada paso es una lectura nativa sin asignaciones
+     *
+     * COMPLEJIDAD: O(log n) por el balanceado AVL
+     */
+    public boolean search(int value) {
+        ensureOpen();
+        int node = root;
+        while (node != NIL) {
+            int nodeCode = code(node);
+            if (value == nodeCode) {
+                return true;
+            }
+            node = (value < nodeCode) ? left(node) : right(node);
+        }
+        return false;
+    }
+
+    // ======================== RECORRIDOS ========================
+
+    public void showAscending() {
+        ensureOpen();
+        System.out.println("=== ORDEN ASCENDENTE ===");
+        inOrderTraversal(root);
+        System.out.println("\n");
+    }
+
+    private void inOrderTraversal(int node) {
+        if (node != NIL) {
+            inOrderTraversal(left(node));
+            System.out.print(code(node) + " ");
+            inOrderTraversal(right(node));
+        }
+    }
+
+    public void showDescending() {
+        ensureOpen();
+        System.out.println("=== ORDEN DESCENDENTE ===");
+        reverseInOrder(root);
+        System.out.println("\n");
+    }
+
+    private void reverseInOrder(int node) {
+        if (node != NIL) {
+            reverseInOrder(right(node));
+            System.out.print(code(node) + " ");
+            reverseInOrder(left(node));
+        }
+    }
+
+    public void showHierarchical() {
+        ensureOpen();
+        System.out.println("=== RECORRIDO JERÁRQUICO (Padre->Hijos) ===");
+        preOrderTraversal(root);
+        System.out.println("\n");
+    }
+
+    private void preOrderTraversal(int node) {
+        if (node != NIL) {
+            System.out.print(code(node) + " ");
+            preOrderTraversal(left(node));
+            preOrderTraversal(right(node));
+        }
+    }
+
+    /**
+     * Muestra elementos nivel por nivel (Breadth-First)
+     * DECISIÓN: La cola de índices también se reserva fuera del heap, en un
+     * Arena temporal que se libera al terminar el recorrido
+     */
+    public void showByLevels() {
+        ensureOpen();
+        System.out.println("=== RECORRIDO POR NIVELES ===");
+        if (root == NIL) {
+            System.out.println("Árbol vacío");
+            return;
+        }
+
+        try (Arena scratch = Arena.ofConfined()) {
+            MemorySegment queue = scratch.allocate((long) size * Integer.BYTES, Integer.BYTES);
+            long front = 0, rear = 0;
+            queue.setAtIndex(ValueLayout.JAVA_INT, rear++, root);
+
+            while (front < rear) {
+                int current = queue.getAtIndex(ValueLayout.JAVA_INT, front++);
+                System.out.print(code(current) + " ");
+
+                if (left(current) != NIL) {
+                    queue.setAtIndex(ValueLayout.JAVA_INT, rear++, left(current));
+                }
+                if (right(current) != NIL) {
+                    queue.setAtIndex(ValueLayout.JAVA_INT, rear++, right(current));
+                }
+            }
+        }
+        System.out.println("\n");
+    }
+
+    // ======================== ITERADORES ========================
+
+    /**
+     * Iterador perezoso en orden ascendente
+     * DECISIÓN: Pila de índices acotada por la altura, como el iterador de InventorySystem
+     *
+     * El inventario no debe modificarse ni cerrarse mientras se recorre
+     */
+    public PrimitiveIterator.OfInt ascendingIterator() {
+        ensureOpen();
+        return new InOrderIterator();
+    }
+
+    private class InOrderIterator implements PrimitiveIterator.OfInt {
+        private final int[] stack = new int[getHeight(root)];
+        private int top = 0;
+
+        InOrderIterator() {
+            pushSpine(root);
+        }
+
+        /**
+         * Apila el camino hacia el menor código del subárbol
+         */
+        private void pushSpine(int node) {
+            while (node != NIL) {
+                stack[top++] = node;
+                node = left(node);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (top == 0) {
+                throw new NoSuchElementException();
+            }
+            int node = stack[--top];
+            pushSpine(right(node));
+            return code(node);
+        }
+    }
+
+    // ======================== MÉTODOS AUXILIARES ========================
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    /**
+     * Bytes nativos reservados para los nodos (fuera del heap)
+     */
+    public long getOffHeapBytes() {
+        return nodes.byteSize();
+    }
+
+    public void showStats() {
+        ensureOpen();
+        System.out.println("=== ESTADÍSTICAS DEL SISTEMA ===");
+        System.out.println("Total de códigos: " + size);
+        System.out.println("Altura del árbol: " + getHeight(root));
+        System.out.println("Árbol balanceado: " + isBalanced(root));
+        System.out.println("Memoria fuera del heap: " + getOffHeapBytes() + " bytes");
+        System.out.println("\n");
+    }
+
+    private boolean isBalanced(int node) {
+        if (node == NIL) return true;
+
+        int balance = getBalance(node);
+        return (Math.abs(balance) <= 1 && isBalanced(left(node)) && isBalanced(right(node)));
+    }
+
+    // ======================== CLASE DE PRUEBA ========================
+
+    /**
+     * Demo y medición del heap a medida que crece el catálogo
+     * DECISIÓN: El heap usado debe mantenerse prácticamente plano; lo que crece
+     * es la memoria nativa
+     */
+    public static void main(String[] args) {
+        try (OffHeapInventorySystem inventory = new OffHeapInventorySystem()) {
+            int[] testData = {50, 30, 70, 20, 40, 60, 80, 10, 25, 35, 45};
+
+            System.out.println("=== DEMO DEL INVENTARIO FUERA DEL HEAP ===\n");
+
+            System.out.println("Insertando códigos: ");
+            for (int value : testData) {
+                System.out.print(value + " ");
+                inventory.insert(value);
+            }
+            System.out.println("\n");
+
+            inventory.showStats();
+            inventory.showAscending();
+            inventory.showDescending();
+            inventory.showHierarchical();
+            inventory.showByLevels();
+
+            System.out.println("=== PRUEBAS DE BÚSQUEDA ===");
+            int[] searchCodes = {50, 25, 100, 80, 15};
+            for (int value : searchCodes) {
+                boolean found = inventory.search(value);
+                System.out.println("Código " + value + ": " + (found ? "ENCONTRADO" : "NO ENCONTRADO"));
+            }
+            System.out.println();
+        }
+
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 4_000_000;
+        System.out.println("=== HEAP FRENTE A TAMAÑO DEL CATÁLOGO ===");
+        try (OffHeapInventorySystem inventory = new OffHeapInventorySystem()) {
+            int step = Math.max(1, n / 4);
+            for (int i = 0; i < n; i++) {
+                inventory.insert(i);
+                if ((i + 1) % step == 0) {
+                    System.out.println((i + 1) + " códigos -> heap usado: " + usedHeap() / 1024
+                            + " KiB, fuera del heap: " + inventory.getOffHeapBytes() / 1024 + " KiB");
+                }
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,75 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BPlusTreeInventorySystemTest {
+
+    @Test
+    void rangeScanMatchesTreeSet() {
+        TreeSet<Integer> expected = TestCodes.randomSet(5_000, 21);
+        BPlusTreeInventorySystem inventory = load(expected, 22);
+        Random random = new Random(23);
+        int[] codes = TestCodes.toArray(expected);
+        for (int i = 0; i < 500; i++) {
+            int lo = codes[random.nextInt(codes.length)] + random.nextInt(3) - 1;
+            int hi = (i % 10 == 0) ? Integer.MAX_VALUE : lo + random.nextInt(1 << 20);
+            assertRange(expected, inventory, lo, hi);
+        }
+        assertRange(expected, inventory, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertRange(expected, inventory, 10, 9);    // Rango vacío
+    }
+
+    @Test
+    void descendingIteratorMatchesTreeSet() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            BPlusTreeInventorySystem inventory = load(expected, n);
+            int[] descending = expected.descendingSet().stream().mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(descending, TestCodes.drain(inventory.descendingIterator()), "n=" + n);
+        }
+    }
+
+    @Test
+    void ascendingLoadFillsLeavesAndStaysShallow() {
+        int n = 1_000_000;
+        BPlusTreeInventorySystem inventory = new BPlusTreeInventorySystem();
+        for (int code = 0; code < n; code++) {
+            inventory.insert(code);
+        }
+        assertEquals(n, inventory.getSize());
+        // Las particiones por la derecha dejan llenas todas las hojas salvo la última
+        assertEquals((n + 14) / 15, inventory.getLeafCount());
+        assertTrue(inventory.getHeight() <= 6, "altura " + inventory.getHeight());
+    }
+
+    private static BPlusTreeInventorySystem load(TreeSet<Integer> codes, long seed) {
+        BPlusTreeInventorySystem inventory = new BPlusTreeInventorySystem();
+        for (int code : TestCodes.shuffledWithDuplicates(codes, seed)) {
+            inventory.insert(code);
+        }
+        return inventory;
+    }
+
+    private static void assertRange(TreeSet<Integer> expected, BPlusTreeInventorySystem inventory, int lo, int hi) {
+        int[] want = (lo > hi) ? new int[0]
+                : expected.subSet(lo, true, hi, true).stream().mapToInt(Integer::intValue).toArray();
+        int[] got = new int[want.length + 1];
+        int[] count = {0};
+        inventory.rangeScan(lo, hi, code -> {
+            if (count[0] < got.length) {
+                got[count[0]] = code;
+            }
+            count[0]++;
+        });
+        assertEquals(want.length, count[0], "[" + lo + ", " + hi + "]");
+        assertArrayEquals(want, Arrays.copyOf(got, count[0]), "[" + lo + ", " + hi + "]");
+    }
+}
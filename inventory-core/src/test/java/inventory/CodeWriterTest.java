@@ -0,0 +1,85 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CodeWriterTest {
+
+    private static final int[] EDGE_CODES = {
+            0, 1, -1, 9, 10, -10, 99, 100, -100, 999_999_999, 1_000_000_000, -1_000_000_000,
+            Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1
+    };
+
+    @Test
+    void writeCodeMatchesIntegerToString() {
+        Random random = new Random(101);
+        int[] codes = new int[EDGE_CODES.length + 10_000];
+        System.arraycopy(EDGE_CODES, 0, codes, 0, EDGE_CODES.length);
+        for (int i = EDGE_CODES.length; i < codes.length; i++) {
+            codes[i] = random.nextInt() >> random.nextInt(32);    // Todas las longitudes
+        }
+        StringBuilder expected = new StringBuilder();
+        for (int code : codes) {
+            expected.append(code).append(' ');
+        }
+        // Búfer mínimo: fuerza un vaciado casi en cada código
+        for (int bufferSize : new int[] {12, 13, 100, 64 * 1024}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodeWriter out = new CodeWriter(bytes, bufferSize);
+            for (int code : codes) {
+                out.writeCode(code);
+            }
+            out.flush();
+            assertEquals(expected.toString(), bytes.toString(StandardCharsets.US_ASCII), "búfer " + bufferSize);
+        }
+    }
+
+    @Test
+    void channelAndTextOutput() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodeWriter out = new CodeWriter(Channels.newChannel(bytes), 16);
+        out.writeText("=== ÁRBOL VACÍO Y UN TEXTO MÁS LARGO QUE EL BÚFER ===\n");
+        out.writeCode(-42);
+        out.flush();
+        assertEquals("=== ÁRBOL VACÍO Y UN TEXTO MÁS LARGO QUE EL BÚFER ===\n-42 ",
+                bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void showAscendingWritesSortedCodes() {
+        TreeSet<Integer> expected = TestCodes.randomSet(1_000, 102);
+        InventorySystem inventory = InventorySystemTest.load(expected);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        inventory.showAscending(new CodeWriter(bytes));
+        StringBuilder codes = new StringBuilder("=== ORDEN ASCENDENTE ===\n");
+        for (int code : expected) {
+            codes.append(code).append(' ');
+        }
+        assertEquals(codes.append("\n\n").toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rejectsBadArgumentsAndWrapsIoErrors() {
+        assertThrows(IllegalArgumentException.class, () -> new CodeWriter(new ByteArrayOutputStream(), 11));
+        assertThrows(NullPointerException.class, () -> new CodeWriter((OutputStream) null));
+        CodeWriter out = new CodeWriter(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disco lleno");
+            }
+        });
+        out.writeCode(1);
+        assertThrows(UncheckedIOException.class, out::flush);
+    }
+}
@@ -0,0 +1,64 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EytzingerLayoutTest {
+
+    @Test
+    void containsMatchesTreeSet() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            EytzingerLayout layout = new EytzingerLayout(TestCodes.toArray(expected), n);
+            assertEquals(n, layout.size());
+            for (int code : TestCodes.probes(expected, n + 1)) {
+                assertEquals(expected.contains(code), layout.contains(code), "n=" + n + " code=" + code);
+            }
+        }
+    }
+
+    @Test
+    void frozenInventorySearchMatchesTreeSetAndThawsOnInsert() {
+        TreeSet<Integer> expected = TestCodes.randomSet(5_000, 7);
+        InventorySystem inventory = new InventorySystem();
+        inventory.bulkLoad(TestCodes.toArray(expected));
+        inventory.freeze();
+        for (int code : TestCodes.probes(expected, 8)) {
+            assertEquals(expected.contains(code), inventory.search(code));
+        }
+
+        inventory.insert(123_456_789);
+        expected.add(123_456_789);
+        assertFalse(inventory.isFrozen());
+        assertTrue(inventory.search(123_456_789));
+        assertEquals(expected.size(), inventory.getSize());
+    }
+
+    /**
+     * Regresión: 16 * i desbordaba a negativo a partir de i = 2^27 (catálogos
+     * de más de ~134M códigos) y search lanzaba ArrayIndexOutOfBoundsException
+     */
+    @Test
+    void prefetchIndexDoesNotOverflowPastTwoToThe27() {
+        int size = EytzingerLayout.MAX_SIZE;
+        for (int i = (1 << 27) - 2; i <= (1 << 27) + 2; i++) {
+            assertEquals(size, EytzingerLayout.prefetchIndex(i, size), "i=" + i);
+        }
+        assertEquals(size, EytzingerLayout.prefetchIndex(size, size));
+        assertEquals(140_000_000, EytzingerLayout.prefetchIndex(8_750_000, 140_000_000));
+        assertEquals(48, EytzingerLayout.prefetchIndex(3, 1_000));
+        assertEquals(1_000, EytzingerLayout.prefetchIndex(100, 1_000));
+    }
+
+    @Test
+    void rejectsMoreThanMaxSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EytzingerLayout(new int[0], EytzingerLayout.MAX_SIZE + 1));
+    }
+}
@@ -0,0 +1,104 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Todos los motores de InventoryIndex contra TreeSet
+ */
+class InventoryIndexTest {
+
+    @Test
+    void randomInsertsMatchTreeSet() {
+        for (InventoryIndex.Engine engine : InventoryIndex.Engine.values()) {
+            for (int n : TestCodes.SIZES) {
+                TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+                InventoryIndex index = InventoryIndex.create(engine);
+                for (int code : TestCodes.shuffledWithDuplicates(expected, n)) {
+                    index.insert(code);
+                }
+                assertMatches(expected, index, engine + " n=" + n);
+            }
+        }
+    }
+
+    @Test
+    void ascendingAndDescendingInsertsMatchTreeSet() {
+        // Las cargas ordenadas recorren los casos extremos de rebalanceo y partición
+        TreeSet<Integer> expected = TestCodes.randomSet(20_000, 3);
+        int[] ascending = TestCodes.toArray(expected);
+        for (InventoryIndex.Engine engine : InventoryIndex.Engine.values()) {
+            InventoryIndex up = InventoryIndex.create(engine);
+            InventoryIndex down = InventoryIndex.create(engine);
+            for (int i = 0; i < ascending.length; i++) {
+                up.insert(ascending[i]);
+                down.insert(ascending[ascending.length - 1 - i]);
+            }
+            assertMatches(expected, up, engine + " ascendente");
+            assertMatches(expected, down, engine + " descendente");
+        }
+    }
+
+    @Test
+    void newIndexIsEmpty() {
+        for (InventoryIndex.Engine engine : InventoryIndex.Engine.values()) {
+            InventoryIndex index = InventoryIndex.create(engine);
+            assertTrue(index.isEmpty(), engine.name());
+            assertEquals(0, index.getSize(), engine.name());
+            assertFalse(index.search(0), engine.name());
+            assertFalse(index.ascendingIterator().hasNext(), engine.name());
+            index.insert(0);
+            assertFalse(index.isEmpty(), engine.name());
+        }
+    }
+
+    @Test
+    void redBlackTreeStaysWithinHeightBound() {
+        TreeSet<Integer> expected = TestCodes.randomSet(50_000, 4);
+        int[] ascending = TestCodes.toArray(expected);
+        RedBlackInventorySystem sequential = new RedBlackInventorySystem();
+        for (int code : ascending) {
+            sequential.insert(code);
+        }
+        RedBlackInventorySystem shuffled = new RedBlackInventorySystem();
+        for (int code : TestCodes.shuffledWithDuplicates(expected, 5)) {
+            shuffled.insert(code);
+        }
+        // Un rojinegro de n nodos tiene altura <= 2 log2(n + 1)
+        double bound = 2 * Math.log(ascending.length + 1) / Math.log(2);
+        for (RedBlackInventorySystem tree : new RedBlackInventorySystem[] {sequential, shuffled}) {
+            assertTrue(tree.getHeight() <= bound, "altura " + tree.getHeight());
+            int[] descending = expected.descendingSet().stream().mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(descending, TestCodes.drain(tree.descendingIterator()));
+        }
+    }
+
+    @Test
+    void skipListWithSameSeedHasSameShape() {
+        int[] codes = TestCodes.shuffledWithDuplicates(TestCodes.randomSet(10_000, 6), 7);
+        SkipListInventorySystem a = new SkipListInventorySystem(99);
+        SkipListInventorySystem b = new SkipListInventorySystem(99);
+        for (int code : codes) {
+            a.insert(code);
+            b.insert(code);
+        }
+        assertEquals(a.getLevel(), b.getLevel());
+        // Con p = 1/4, 10.000 códigos rondan log4(10.000) ≈ 7 niveles
+        assertTrue(a.getLevel() >= 4 && a.getLevel() <= 12, "niveles " + a.getLevel());
+    }
+
+    private static void assertMatches(TreeSet<Integer> expected, InventoryIndex index, String label) {
+        assertEquals(expected.size(), index.getSize(), label);
+        assertEquals(expected.isEmpty(), index.isEmpty(), label);
+        assertArrayEquals(TestCodes.toArray(expected), TestCodes.drain(index.ascendingIterator()), label);
+        for (int code : TestCodes.probes(expected, expected.size() + 1)) {
+            assertEquals(expected.contains(code), index.search(code), label + " code=" + code);
+        }
+    }
+}
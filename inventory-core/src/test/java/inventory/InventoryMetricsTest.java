@@ -0,0 +1,83 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InventoryMetricsTest {
+
+    @Test
+    void disabledByDefaultAndEnableKeepsCounters() {
+        InventorySystem inventory = new InventorySystem();
+        assertNull(inventory.getMetrics());
+        InventoryMetrics metrics = inventory.enableMetrics();
+        inventory.insert(1);
+        assertSame(metrics, inventory.enableMetrics());
+        assertEquals(1, metrics.getInserts());
+        inventory.disableMetrics();
+        assertNull(inventory.getMetrics());
+        inventory.insert(2);
+        assertEquals(1, metrics.getInserts());
+    }
+
+    @Test
+    void countsSearchDepthsAndComparisons() {
+        InventorySystem inventory = new InventorySystem();
+        InventoryMetrics metrics = inventory.enableMetrics();
+        inventory.insert(2);    // Raíz
+        inventory.insert(1);
+        inventory.insert(3);
+        assertEquals(3, metrics.getInserts());
+        assertEquals(1, metrics.getMaxInsertPathLength());
+        assertEquals(2.0 / 3, metrics.getMeanInsertPathLength(), 1e-9);
+        assertEquals(0, metrics.getTotalRotations());
+
+        assertTrue(inventory.search(2));    // Acierto a profundidad 1: 1 comparación
+        assertTrue(inventory.search(1));    // Acierto a profundidad 2: 3
+        inventory.search(0);                // Fallo a profundidad 2: 4
+        assertEquals(3, metrics.getSearches());
+        assertEquals(2, metrics.getSearchHits());
+        assertEquals(8, metrics.getSearchComparisons());
+        assertEquals(1, metrics.getSearchesAtDepth(1));
+        assertEquals(2, metrics.getSearchesAtDepth(2));
+
+        metrics.reset();
+        assertEquals(0, metrics.getSearches());
+        assertEquals(0, metrics.getInserts());
+    }
+
+    @Test
+    void ascendingInsertsOnlyRotateRightRight() {
+        InventorySystem inventory = new InventorySystem();
+        InventoryMetrics metrics = inventory.enableMetrics();
+        for (int code = 1; code <= 1000; code++) {
+            inventory.insert(code);
+        }
+        // Solo se desequilibra hacia la derecha: todas las rotaciones son RR
+        assertEquals(990, metrics.getRotations(InventoryMetrics.Rotation.RR));
+        assertEquals(990, metrics.getTotalRotations());
+    }
+
+    @Test
+    void resultsDoNotDependOnMetrics() {
+        TreeSet<Integer> expected = TestCodes.randomSet(10_000, 11);
+        int[] codes = TestCodes.toArray(expected);
+        InventorySystem plain = new InventorySystem();
+        InventorySystem counted = new InventorySystem();
+        counted.enableMetrics();
+        for (int code : codes) {
+            plain.insert(code);
+            counted.insert(code);
+        }
+        assertEquals(plain.getSize(), counted.getSize());
+        for (int code : TestCodes.probes(expected, 12)) {
+            assertEquals(expected.contains(code), plain.search(code), "code=" + code);
+            assertEquals(expected.contains(code), counted.search(code), "code=" + code);
+        }
+    }
+}
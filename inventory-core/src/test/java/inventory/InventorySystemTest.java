@@ -0,0 +1,532 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Operaciones propias del AVL contra TreeSet
+ */
+class InventorySystemTest {
+
+    // ======================== INSERCIÓN ========================
+
+    @Test
+    void insertsKeepTreeBalanced() {
+        // Ascendente, descendente y al azar: todos los casos de rotación
+        TreeSet<Integer> expected = TestCodes.randomSet(50_000, 81);
+        int[] ascending = TestCodes.toArray(expected);
+        InventorySystem up = new InventorySystem();
+        InventorySystem down = new InventorySystem();
+        for (int i = 0; i < ascending.length; i++) {
+            up.insert(ascending[i]);
+            down.insert(ascending[ascending.length - 1 - i]);
+        }
+        for (InventorySystem inventory : new InventorySystem[] {up, down, load(expected)}) {
+            assertMatches(expected, inventory);
+            assertBalanced(inventory);
+        }
+    }
+
+    // ======================== CARGA MASIVA ========================
+
+    @Test
+    void bulkLoadMatchesTreeSet() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            InventorySystem shuffled = new InventorySystem();
+            shuffled.bulkLoad(TestCodes.shuffledWithDuplicates(expected, n));
+            assertMatches(expected, shuffled, "desordenado n=" + n);
+            InventorySystem sorted = new InventorySystem();
+            sorted.bulkLoad(TestCodes.toArray(expected));
+            assertMatches(expected, sorted, "ordenado n=" + n);
+        }
+    }
+
+    @Test
+    void bulkLoadMergesWithExistingCodes() {
+        TreeSet<Integer> before = TestCodes.randomSet(3_000, 51);
+        TreeSet<Integer> loaded = TestCodes.randomSet(2_000, 52);
+        InventorySystem inventory = load(before);
+        inventory.bulkLoad(TestCodes.toArray(loaded));
+        TreeSet<Integer> expected = new TreeSet<>(before);
+        expected.addAll(loaded);
+        assertMatches(expected, inventory, "fusión");
+        inventory.insert(7);
+        expected.add(7);
+        assertMatches(expected, inventory, "alta tras la carga");
+    }
+
+    @Test
+    void bulkLoadParallelBuildsSameTreeAsBulkLoad() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TreeSet<Integer> expected = TestCodes.randomSet(50_000, 53);
+            int[] codes = TestCodes.shuffledWithDuplicates(expected, 54);
+            InventorySystem sequential = new InventorySystem();
+            sequential.bulkLoad(codes.clone());
+            for (int cutoff : new int[] {1, 16, InventorySystem.DEFAULT_PARALLEL_CUTOFF, Integer.MAX_VALUE}) {
+                InventorySystem parallel = new InventorySystem();
+                parallel.bulkLoadParallel(codes.clone(), pool, cutoff);
+                assertMatches(expected, parallel, "umbral " + cutoff);
+                // Misma forma: la raíz es la mediana en cada rango en ambos casos
+                assertArrayEquals(TestCodes.drain(sequential.preOrderIterator()),
+                        TestCodes.drain(parallel.preOrderIterator()), "umbral " + cutoff);
+            }
+            assertThrows(IllegalArgumentException.class,
+                    () -> new InventorySystem().bulkLoadParallel(codes, pool, 0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // ======================== ELIMINACIÓN ========================
+
+    @Test
+    void mixedInsertsAndRemovesMatchTreeSet() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        InventorySystem inventory = new InventorySystem();
+        Random random = new Random(71);
+        for (int step = 1; step <= 60_000; step++) {
+            // Códigos en un rango estrecho para que las bajas acierten a menudo
+            int code = random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(code), inventory.remove(code), "remove " + code);
+            } else {
+                expected.add(code);
+                inventory.insert(code);
+            }
+            if (step % 10_000 == 0) {
+                assertMatches(expected, inventory, "paso " + step);
+                assertBalanced(inventory);
+            }
+        }
+        for (int code : TestCodes.toArray(expected)) {
+            assertTrue(inventory.remove(code));
+        }
+        assertMatches(new TreeSet<>(), inventory, "vacío");
+        assertFalse(inventory.remove(0));
+    }
+
+    // ======================== RECORRIDOS ========================
+
+    @Test
+    void iteratorsMatchTreeShape() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            InventorySystem inventory = load(expected);
+            String label = "n=" + n;
+            int[] descending = expected.descendingSet().stream().mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(descending, TestCodes.drain(inventory.descendingIterator()), label);
+
+            // Insertar el pre-order en un BST simple reproduce el mismo árbol
+            int[] preOrder = TestCodes.drain(inventory.preOrderIterator());
+            ReferenceNode root = null;
+            for (int code : preOrder) {
+                root = ReferenceNode.insert(root, code);
+            }
+            assertArrayEquals(TestCodes.toArray(expected), ReferenceNode.inOrder(root, n), label);
+            assertArrayEquals(ReferenceNode.levelOrder(root, n),
+                    TestCodes.drain(inventory.levelOrderIterator()), label);
+        }
+    }
+
+    @Test
+    void traverseLevelsReportsEachLevel() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            InventorySystem inventory = load(expected);
+            int[] levelOrder = TestCodes.drain(inventory.levelOrderIterator());
+            IntStream.Builder visited = IntStream.builder();
+            int[] offset = {0};
+            int[] levels = {0};
+            inventory.traverseLevels(visited, (level, width, firstCode, lastCode) -> {
+                assertEquals(levels[0]++, level);
+                assertTrue(width >= 1 && width <= (1L << level), "anchura " + width);
+                assertEquals(levelOrder[offset[0]], firstCode);
+                assertEquals(levelOrder[offset[0] + width - 1], lastCode);
+                offset[0] += width;
+            });
+            assertArrayEquals(levelOrder, visited.build().toArray(), "n=" + n);
+            assertEquals(n, offset[0], "n=" + n);
+        }
+        new InventorySystem().traverseLevels(null, (level, width, firstCode, lastCode) -> {
+            throw new AssertionError("nivel en un árbol vacío");
+        });
+    }
+
+    @Test
+    void exhaustedIteratorThrows() {
+        InventorySystem inventory = new InventorySystem();
+        inventory.insert(1);
+        PrimitiveIterator.OfInt iterator = inventory.ascendingIterator();
+        assertEquals(1, iterator.nextInt());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    void codesStreamMatchesTreeSetSequentialAndParallel() {
+        for (int n : new int[] {0, 1, 17, 1024, 100_000}) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            InventorySystem inventory = load(expected);
+            int[] codes = TestCodes.toArray(expected);
+            String label = "n=" + n;
+            assertArrayEquals(codes, inventory.codes().toArray(), label);
+            assertArrayEquals(codes, inventory.codes().parallel().toArray(), label);
+            assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+                    inventory.codes().parallel().asLongStream().sum(), label);
+            assertEquals(n, inventory.codes().spliterator().getExactSizeIfKnown(), label);
+        }
+    }
+
+    // ======================== CONSULTAS ========================
+
+    @Test
+    void rangeQueriesMatchTreeSet() {
+        TreeSet<Integer> expected = TestCodes.randomSet(5_000, 61);
+        InventorySystem inventory = load(expected);
+        int[] codes = TestCodes.toArray(expected);
+        Random random = new Random(62);
+        for (int i = 0; i < 500; i++) {
+            int lo = codes[random.nextInt(codes.length)] + random.nextInt(3) - 1;
+            int hi = (i % 10 == 0) ? Integer.MAX_VALUE : lo + random.nextInt(1 << 20);
+            if (i % 50 == 0) {
+                hi = lo - 1;    // Rango vacío
+            }
+            String label = "[" + lo + ", " + hi + "]";
+            int[] want = (lo > hi) ? new int[0]
+                    : expected.subSet(lo, true, hi, true).stream().mapToInt(Integer::intValue).toArray();
+            assertEquals(want.length, inventory.countInRange(lo, hi), label);
+            IntStream.Builder got = IntStream.builder();
+            inventory.rangeScan(lo, hi, got);
+            assertArrayEquals(want, got.build().toArray(), label);
+        }
+        assertEquals(codes.length, inventory.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void orderStatisticsMatchSortedCodes() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            InventorySystem inventory = load(expected);
+            int[] codes = TestCodes.toArray(expected);
+            String label = "n=" + n;
+            for (int k = 0; k < n; k++) {
+                assertEquals(codes[k], inventory.select(k), label);
+                assertEquals(k, inventory.rank(codes[k]), label);
+            }
+            for (int code : TestCodes.probes(expected, n + 1)) {
+                assertEquals(expected.headSet(code, false).size(), inventory.rank(code), label + " code=" + code);
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> inventory.select(n));
+            assertThrows(IndexOutOfBoundsException.class, () -> inventory.select(-1));
+            if (n == 0) {
+                assertThrows(NoSuchElementException.class, inventory::median);
+                continue;
+            }
+            assertEquals(codes[(n - 1) / 2], inventory.median(), label);
+            assertEquals(codes[0], inventory.percentile(0), label);
+            assertEquals(codes[n - 1], inventory.percentile(100), label);
+            for (double p : new double[] {1, 25, 50, 90, 99, 99.9}) {
+                int nearestRank = (int) Math.ceil(p / 100 * n);
+                assertEquals(codes[Math.max(nearestRank, 1) - 1], inventory.percentile(p), label + " p=" + p);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new InventorySystem().percentile(101));
+        assertThrows(IllegalArgumentException.class, () -> new InventorySystem().percentile(Double.NaN));
+    }
+
+    @Test
+    void navigationMatchesTreeSet() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            InventorySystem inventory = load(expected);
+            for (int code : TestCodes.probes(expected, n + 1)) {
+                String label = "n=" + n + " code=" + code;
+                assertEquals(optional(expected.floor(code)), inventory.floor(code), label);
+                assertEquals(optional(expected.ceiling(code)), inventory.ceiling(code), label);
+                assertEquals(optional(expected.lower(code)), inventory.lower(code), label);
+                assertEquals(optional(expected.higher(code)), inventory.higher(code), label);
+            }
+            assertEquals(optional(expected.isEmpty() ? null : expected.first()), inventory.first());
+            assertEquals(optional(expected.isEmpty() ? null : expected.last()), inventory.last());
+        }
+    }
+
+    // ======================== BÚSQUEDA POR LOTES ========================
+
+    @Test
+    void searchAllMatchesTreeSet() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            InventorySystem inventory = load(expected);
+            int[] batch = shuffledProbes(expected, n + 1);
+            assertArrayEquals(expectedFound(expected, batch), inventory.searchAll(batch), "n=" + n);
+        }
+        assertArrayEquals(new boolean[0], new InventorySystem().searchAll(new int[0]));
+    }
+
+    @Test
+    void searchInterleavedMatchesTreeSetForAnyGroup() {
+        TreeSet<Integer> expected = TestCodes.randomSet(10_000, 91);
+        InventorySystem inventory = load(expected);
+        int[] batch = shuffledProbes(expected, 92);
+        boolean[] want = expectedFound(expected, batch);
+        for (int group : new int[] {1, 2, 7, InventorySystem.DEFAULT_INTERLEAVE_GROUP, 64, batch.length + 1}) {
+            assertArrayEquals(want, inventory.searchInterleaved(batch, group), "grupo " + group);
+        }
+        assertArrayEquals(want, inventory.searchInterleaved(batch));
+        assertArrayEquals(new boolean[3], new InventorySystem().searchInterleaved(new int[] {1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> inventory.searchInterleaved(batch, 0));
+    }
+
+    // ======================== DIVISIÓN Y UNIÓN ========================
+
+    @Test
+    void splitMatchesHeadAndTailSets() {
+        TreeSet<Integer> expected = TestCodes.randomSet(10_000, 31);
+        int[] codes = TestCodes.toArray(expected);
+        Random random = new Random(32);
+        for (int i = 0; i < 50; i++) {
+            int pivot = codes[random.nextInt(codes.length)] + random.nextInt(3) - 1;
+            InventorySystem inventory = load(expected);
+            InventorySystem[] parts = inventory.split(pivot);
+            assertMatches(new TreeSet<>(expected.headSet(pivot, false)), parts[0]);
+            assertMatches(new TreeSet<>(expected.tailSet(pivot, true)), parts[1]);
+            assertEquals(0, inventory.getSize());
+        }
+    }
+
+    @Test
+    void joinRestoresSplitInventory() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            for (int pivot : new int[] {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}) {
+                InventorySystem[] parts = load(expected).split(pivot);
+                InventorySystem joined = InventorySystem.join(parts[0], parts[1]);
+                assertMatches(expected, joined);
+                assertEquals(0, parts[0].getSize());
+                assertEquals(0, parts[1].getSize());
+            }
+        }
+    }
+
+    @Test
+    void joinRejectsOverlappingInventories() {
+        InventorySystem lower = new InventorySystem();
+        InventorySystem higher = new InventorySystem();
+        lower.insert(5);
+        higher.insert(5);
+        assertThrows(IllegalArgumentException.class, () -> InventorySystem.join(lower, higher));
+        assertThrows(IllegalArgumentException.class, () -> InventorySystem.join(lower, lower));
+    }
+
+    // ======================== ÁLGEBRA DE CONJUNTOS ========================
+
+    @Test
+    void setOperationsMatchTreeSet() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Tamaños parecidos y muy distintos, por encima del umbral de paralelismo
+            int[][] sizes = {{0, 100}, {1_000, 1_000}, {50_000, 40_000}, {100, 60_000}};
+            for (int[] size : sizes) {
+                TreeSet<Integer> a = TestCodes.randomSet(size[0], size[0] + 1);
+                TreeSet<Integer> b = TestCodes.randomSet(size[1], size[1] + 2);
+                int k = 0;
+                for (int code : b) {
+                    if (k++ % 2 == 0) {
+                        a.add(code);    // La mitad de "b" también está en "a"
+                    }
+                }
+                for (ForkJoinPool p : new ForkJoinPool[] {null, pool}) {
+                    String label = size[0] + "/" + size[1] + (p == null ? " secuencial" : " paralelo");
+
+                    TreeSet<Integer> union = new TreeSet<>(a);
+                    union.addAll(b);
+                    assertMatches(union, InventorySystem.union(load(a), load(b), p), label);
+
+                    TreeSet<Integer> intersection = new TreeSet<>(a);
+                    intersection.retainAll(b);
+                    assertMatches(intersection, InventorySystem.intersect(load(a), load(b), p), label);
+
+                    TreeSet<Integer> difference = new TreeSet<>(a);
+                    difference.removeAll(b);
+                    assertMatches(difference, InventorySystem.difference(load(a), load(b), p), label);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void setOperationsConsumeInputsAndCopyPreservesThem() {
+        TreeSet<Integer> codes = TestCodes.randomSet(1_000, 41);
+        InventorySystem a = load(codes);
+        InventorySystem kept = a.copy();
+        InventorySystem b = new InventorySystem();
+        InventorySystem union = InventorySystem.union(a, b);
+        assertMatches(codes, union, "unión");
+        assertEquals(0, a.getSize());
+        assertMatches(codes, kept, "copia");
+    }
+
+    // ======================== AUXILIARES ========================
+
+    /**
+     * Árbol binario de búsqueda sin balancear, como referencia de forma
+     */
+    private static final class ReferenceNode {
+        final int code;
+        ReferenceNode left;
+        ReferenceNode right;
+
+        ReferenceNode(int code) {
+            this.code = code;
+        }
+
+        static ReferenceNode insert(ReferenceNode root, int code) {
+            if (root == null) {
+                return new ReferenceNode(code);
+            }
+            ReferenceNode node = root;
+            while (true) {
+                if (code < node.code) {
+                    if (node.left == null) {
+                        node.left = new ReferenceNode(code);
+                        return root;
+                    }
+                    node = node.left;
+                } else {
+                    if (node.right == null) {
+                        node.right = new ReferenceNode(code);
+                        return root;
+                    }
+                    node = node.right;
+                }
+            }
+        }
+
+        static int height(ReferenceNode node) {
+            return (node == null) ? 0 : 1 + Math.max(height(node.left), height(node.right));
+        }
+
+        static int[] inOrder(ReferenceNode root, int size) {
+            int[] codes = new int[size];
+            int n = 0;
+            ArrayDeque<ReferenceNode> stack = new ArrayDeque<>();
+            ReferenceNode node = root;
+            while (node != null || !stack.isEmpty()) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+                node = stack.pop();
+                codes[n++] = node.code;
+                node = node.right;
+            }
+            return codes;
+        }
+
+        static int[] levelOrder(ReferenceNode root, int size) {
+            int[] codes = new int[size];
+            int n = 0;
+            ArrayDeque<ReferenceNode> queue = new ArrayDeque<>();
+            if (root != null) {
+                queue.add(root);
+            }
+            while (!queue.isEmpty()) {
+                ReferenceNode node = queue.poll();
+                codes[n++] = node.code;
+                if (node.left != null) {
+                    queue.add(node.left);
+                }
+                if (node.right != null) {
+                    queue.add(node.right);
+                }
+            }
+            return codes;
+        }
+    }
+
+    static InventorySystem load(TreeSet<Integer> codes) {
+        InventorySystem inventory = new InventorySystem();
+        for (int code : TestCodes.shuffledWithDuplicates(codes, codes.size())) {
+            inventory.insert(code);
+        }
+        return inventory;
+    }
+
+    /**
+     * Altura dentro de la cota AVL (1,44 log2(n + 2)), reconstruida desde el pre-order
+     */
+    static void assertBalanced(InventorySystem inventory) {
+        ReferenceNode root = null;
+        for (PrimitiveIterator.OfInt it = inventory.preOrderIterator(); it.hasNext(); ) {
+            root = ReferenceNode.insert(root, it.nextInt());
+        }
+        double bound = 1.4405 * Math.log(inventory.getSize() + 2) / Math.log(2) - 0.3277;
+        int height = ReferenceNode.height(root);
+        assertTrue(height <= bound, "altura " + height + " para " + inventory.getSize() + " códigos");
+    }
+
+    /**
+     * Sondas en orden aleatorio y con repeticiones, como llega una ráfaga real
+     */
+    private static int[] shuffledProbes(TreeSet<Integer> codes, long seed) {
+        int[] probes = TestCodes.probes(codes, seed);
+        TreeSet<Integer> distinct = new TreeSet<>();
+        for (int probe : probes) {
+            distinct.add(probe);
+        }
+        return TestCodes.shuffledWithDuplicates(distinct, seed);
+    }
+
+    private static boolean[] expectedFound(TreeSet<Integer> codes, int[] batch) {
+        boolean[] found = new boolean[batch.length];
+        for (int i = 0; i < batch.length; i++) {
+            found[i] = codes.contains(batch[i]);
+        }
+        return found;
+    }
+
+    private static OptionalInt optional(Integer code) {
+        return (code == null) ? OptionalInt.empty() : OptionalInt.of(code);
+    }
+
+    /**
+     * Mismos códigos, en orden, con extremos y tamaños de subárbol correctos
+     */
+    static void assertMatches(TreeSet<Integer> expected, InventorySystem inventory) {
+        assertMatches(expected, inventory, "");
+    }
+
+    static void assertMatches(TreeSet<Integer> expected, InventorySystem inventory, String label) {
+        int[] codes = TestCodes.toArray(expected);
+        assertEquals(codes.length, inventory.getSize(), label);
+        assertArrayEquals(codes, TestCodes.drain(inventory.ascendingIterator()), label);
+        if (codes.length > 0) {
+            assertEquals(codes[0], inventory.first().getAsInt(), label);
+            assertEquals(codes[codes.length - 1], inventory.last().getAsInt(), label);
+        } else {
+            assertTrue(inventory.first().isEmpty(), label);
+        }
+        assertEquals(codes.length, inventory.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE), label);
+        for (int k = 0; k < codes.length; k += Math.max(1, codes.length / 64)) {
+            assertEquals(codes[k], inventory.select(k), label + " select(" + k + ")");
+        }
+    }
+}
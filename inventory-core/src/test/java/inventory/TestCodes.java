@@ -0,0 +1,88 @@
+package inventory;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Datos de prueba compartidos: conjuntos de códigos de referencia sobre TreeSet
+ */
+final class TestCodes {
+
+    /** Tamaños que cubren vacío, casi vacío, potencias de dos y sus vecinos */
+    static final int[] SIZES = {0, 1, 2, 3, 7, 8, 15, 16, 17, 100, 1023, 1024, 1025, 10_000};
+
+    private TestCodes() {
+    }
+
+    /**
+     * n códigos distintos en todo el rango de int, extremos incluidos si n >= 2
+     */
+    static TreeSet<Integer> randomSet(int n, long seed) {
+        Random random = new Random(seed);
+        TreeSet<Integer> set = new TreeSet<>();
+        if (n >= 2) {
+            set.add(Integer.MIN_VALUE);
+            set.add(Integer.MAX_VALUE);
+        }
+        while (set.size() < n) {
+            // Mitad en un rango estrecho para que haya vecinos consecutivos
+            set.add(random.nextBoolean() ? random.nextInt() : random.nextInt(4 * n + 1) - 2 * n);
+        }
+        return set;
+    }
+
+    static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Los códigos de "set" en orden aleatorio, con una décima parte repetidos
+     */
+    static int[] shuffledWithDuplicates(TreeSet<Integer> set, long seed) {
+        Random random = new Random(seed);
+        int[] codes = toArray(set);
+        int[] order = Arrays.copyOf(codes, codes.length + codes.length / 10);
+        for (int i = codes.length; i < order.length; i++) {
+            order[i] = codes[random.nextInt(codes.length)];
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    static int[] drain(PrimitiveIterator.OfInt iterator) {
+        int[] codes = new int[16];
+        int n = 0;
+        while (iterator.hasNext()) {
+            if (n == codes.length) {
+                codes = Arrays.copyOf(codes, 2 * n);
+            }
+            codes[n++] = iterator.nextInt();
+        }
+        return Arrays.copyOf(codes, n);
+    }
+
+    /**
+     * Códigos para consultar: los presentes, sus vecinos y algunos al azar
+     */
+    static int[] probes(TreeSet<Integer> set, long seed) {
+        Random random = new Random(seed);
+        int[] probes = new int[3 * set.size() + 100];
+        int k = 0;
+        for (int code : set) {
+            probes[k++] = code;
+            probes[k++] = code - 1;
+            probes[k++] = code + 1;
+        }
+        while (k < probes.length) {
+            probes[k++] = random.nextInt();
+        }
+        return probes;
+    }
+}
@@ -0,0 +1,52 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VanEmdeBoasLayoutTest {
+
+    @Test
+    void containsMatchesTreeSet() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            VanEmdeBoasLayout layout = new VanEmdeBoasLayout(TestCodes.toArray(expected), n);
+            assertEquals(n, layout.size());
+            for (int code : TestCodes.probes(expected, n + 1)) {
+                assertEquals(expected.contains(code), layout.contains(code), "n=" + n + " code=" + code);
+            }
+        }
+    }
+
+    /**
+     * El relleno es Integer.MAX_VALUE: no debe aparecer como código si no se cargó
+     */
+    @Test
+    void paddingIsNotReportedAsCode() {
+        VanEmdeBoasLayout layout = new VanEmdeBoasLayout(new int[] {1, 2, 3, 4}, 4);
+        assertFalse(layout.contains(Integer.MAX_VALUE));
+        assertTrue(layout.contains(4));
+    }
+
+    @Test
+    void frozenInventorySearchMatchesTreeSet() {
+        TreeSet<Integer> expected = TestCodes.randomSet(5_000, 11);
+        InventorySystem inventory = new InventorySystem();
+        inventory.bulkLoad(TestCodes.toArray(expected));
+        inventory.freeze(InventorySystem.FrozenLayout.VAN_EMDE_BOAS);
+        assertTrue(inventory.isFrozen());
+        for (int code : TestCodes.probes(expected, 12)) {
+            assertEquals(expected.contains(code), inventory.search(code));
+        }
+    }
+
+    @Test
+    void rejectsHeightAboveThirty() {
+        assertThrows(IllegalArgumentException.class, () -> new VanEmdeBoasLayout(new int[0], 1 << 30));
+    }
+}
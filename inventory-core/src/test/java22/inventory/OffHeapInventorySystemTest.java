@@ -0,0 +1,73 @@
+package inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapInventorySystemTest {
+
+    @Test
+    void randomInsertsMatchTreeSet() {
+        for (int n : TestCodes.SIZES) {
+            TreeSet<Integer> expected = TestCodes.randomSet(n, n);
+            try (OffHeapInventorySystem inventory = new OffHeapInventorySystem()) {
+                for (int code : TestCodes.shuffledWithDuplicates(expected, n)) {
+                    inventory.insert(code);
+                }
+                assertEquals(expected.size(), inventory.getSize(), "n=" + n);
+                assertEquals(expected.isEmpty(), inventory.isEmpty(), "n=" + n);
+                assertArrayEquals(TestCodes.toArray(expected), TestCodes.drain(inventory.ascendingIterator()), "n=" + n);
+                for (int code : TestCodes.probes(expected, n + 1)) {
+                    assertEquals(expected.contains(code), inventory.search(code), "n=" + n + " code=" + code);
+                }
+            }
+        }
+    }
+
+    @Test
+    void segmentGrowsPastInitialCapacity() {
+        TreeSet<Integer> expected = TestCodes.randomSet(100_000, 42);
+        try (OffHeapInventorySystem inventory = new OffHeapInventorySystem(0)) {
+            for (int code : TestCodes.shuffledWithDuplicates(expected, 43)) {
+                inventory.insert(code);
+            }
+            // Cada crecimiento copia el segmento: el contenido debe sobrevivir
+            assertArrayEquals(TestCodes.toArray(expected), TestCodes.drain(inventory.ascendingIterator()));
+            assertTrue(inventory.getOffHeapBytes() > 100_000L * 16);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapInventorySystem(-1));
+    }
+
+    @Test
+    void usableFromAnotherThread() throws Exception {
+        try (OffHeapInventorySystem inventory = new OffHeapInventorySystem(0)) {
+            inventory.insert(1);
+            // Altas desde otro hilo, que además hacen crecer el segmento
+            Thread writer = new Thread(() -> {
+                for (int code = 2; code <= 1000; code++) {
+                    inventory.insert(code);
+                }
+            });
+            writer.start();
+            writer.join();
+            assertEquals(1000, inventory.getSize());
+            assertTrue(inventory.search(1000));
+        }
+    }
+
+    @Test
+    void closeIsIdempotentAndRejectsFurtherUse() {
+        OffHeapInventorySystem inventory = new OffHeapInventorySystem();
+        inventory.insert(1);
+        inventory.close();
+        inventory.close();
+        assertThrows(IllegalStateException.class, () -> inventory.search(1));
+        assertThrows(IllegalStateException.class, () -> inventory.insert(2));
+        assertThrows(IllegalStateException.class, inventory::ascendingIterator);
+    }
+}
@@ -0,0 +1,152 @@
+package inventory.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import inventory.CodeWriter;
+import inventory.InventoryIndex;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.PrimitiveIterator;
+
+/**
+ * Servicio HTTP mínimo sobre un inventario
+ *
+ * DECISIONES DE DISEÑO:
+ *
+ * 1. Solo JDK (com.sun.net.httpserver): el servicio no añade dependencias al núcleo
+ * 2. Ejecutor por defecto del HttpServer: todas las peticiones se atienden en
+ *    el hilo del despachador, una detrás de otra, porque los motores no son
+ *    seguros entre hilos
+ * 3. Respuestas en texto plano con el mismo formato que los recorridos
+ *
+ * Rutas:
+ *   GET  /codes          códigos en orden ascendente
+ *   GET  /codes/{code}   200 si existe, 404 si no
+ *   PUT  /codes/{code}   alta (204; los duplicados se ignoran)
+ *   GET  /stats          número de códigos y motor
+ *
+ * Uso: java -jar inventory-server.jar [puerto] [AVL|POOLED_AVL|RED_BLACK|SKIP_LIST|B_PLUS_TREE]
+ *
+ */
+public class InventoryServer {
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final String CODES_PATH = "/codes";
+
+    private final InventoryIndex index;
+    private final InventoryIndex.Engine engine;
+    private final HttpServer server;
+
+    public InventoryServer(InventoryIndex.Engine engine, int port) throws IOException {
+        this.engine = engine;
+        this.index = InventoryIndex.create(engine);
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext(CODES_PATH, this::handleCodes);
+        server.createContext("/stats", this::handleStats);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Detiene el servicio esperando como mucho "delaySeconds" a las peticiones en curso
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // ======================== RUTAS ========================
+
+    private void handleCodes(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+
+            if (path.equals(CODES_PATH) || path.equals(CODES_PATH + "/")) {
+                if (method.equals("GET")) {
+                    listCodes(exchange);
+                } else {
+                    sendText(exchange, 405, "Método no permitido\n");
+                }
+                return;
+            }
+
+            int code;
+            try {
+                code = Integer.parseInt(path.substring(CODES_PATH.length() + 1));
+            } catch (NumberFormatException e) {
+                sendText(exchange, 400, "Código no válido\n");
+                return;
+            }
+
+            switch (method) {
+                case "GET":
+                    exchange.sendResponseHeaders(index.search(code) ? 200 : 404, -1);
+                    break;
+                case "PUT":
+                    index.insert(code);
+                    exchange.sendResponseHeaders(204, -1);
+                    break;
+                default:
+                    sendText(exchange, 405, "Método no permitido\n");
+                    break;
+            }
+        } finally {
+            exchange.close();   // HttpExchange no es AutoCloseable en JDK 17
+        }
+    }
+
+    /**
+     * Lista completa en orden ascendente
+     * DECISIÓN: Respuesta por trozos (longitud 0) escrita con un CodeWriter,
+     * sin construir un String con todo el inventario
+     */
+    private void listCodes(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        CodeWriter out = new CodeWriter(exchange.getResponseBody());
+        for (PrimitiveIterator.OfInt it = index.ascendingIterator(); it.hasNext(); ) {
+            out.writeCode(it.nextInt());
+        }
+        out.writeText("\n");
+        out.flush();
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            sendText(exchange, 200, "engine=" + engine + "\nsize=" + index.getSize() + "\n");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // ======================== PUNTO DE ENTRADA ========================
+
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        InventoryIndex.Engine engine = (args.length > 1)
+                ? InventoryIndex.Engine.valueOf(args[1])
+                : InventoryIndex.Engine.AVL;
+
+        InventoryServer server = new InventoryServer(engine, port);
+        server.start();
+        System.out.println("Inventario (" + engine + ") escuchando en el puerto " + server.getPort());
+    }
+}
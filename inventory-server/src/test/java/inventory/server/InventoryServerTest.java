@@ -0,0 +1,84 @@
+package inventory.server;
+
+import inventory.InventoryIndex;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InventoryServerTest {
+
+    @Test
+    void putGetListAndStatsOnEveryEngine() throws Exception {
+        for (InventoryIndex.Engine engine : InventoryIndex.Engine.values()) {
+            try (Session session = new Session(engine)) {
+                for (int code : new int[] {42, -7, 1000, 42}) {
+                    assertEquals(204, session.status("/codes/" + code, "PUT"), engine.name());
+                }
+                assertEquals(200, session.status("/codes/-7", "GET"), engine.name());
+                assertEquals(404, session.status("/codes/8", "GET"), engine.name());
+                assertEquals("-7 42 1000 \n", session.body("/codes"), engine.name());
+                assertEquals("engine=" + engine + "\nsize=3\n", session.body("/stats"));
+            }
+        }
+    }
+
+    @Test
+    void rejectsBadCodesAndMethods() throws Exception {
+        try (Session session = new Session(InventoryIndex.Engine.AVL)) {
+            assertEquals(400, session.status("/codes/abc", "GET"));
+            assertEquals(405, session.status("/codes/1", "DELETE"));
+            assertEquals(405, session.status("/codes", "PUT"));
+        }
+    }
+
+    /**
+     * Servidor en un puerto libre cualquiera
+     * DECISIÓN: HttpURLConnection y no java.net.http.HttpClient: en JDK 17 el
+     * cliente reutiliza a veces una conexión que el servidor ya ha cerrado
+     * tras varios PUT seguidos con respuesta 204
+     */
+    private static final class Session implements AutoCloseable {
+        private final InventoryServer server;
+
+        Session(InventoryIndex.Engine engine) throws IOException {
+            server = new InventoryServer(engine, 0);
+            server.start();
+        }
+
+        int status(String path, String method) throws IOException {
+            HttpURLConnection connection = open(path, method);
+            int status = connection.getResponseCode();
+            InputStream body = (status < 400) ? connection.getInputStream() : connection.getErrorStream();
+            if (body != null) {
+                body.readAllBytes();    // Consumir la respuesta deja la conexión reutilizable
+                body.close();
+            }
+            return status;
+        }
+
+        String body(String path) throws IOException {
+            try (InputStream body = open(path, "GET").getInputStream()) {
+                return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        private HttpURLConnection open(String path, String method) throws IOException {
+            URL url = new URL("http://localhost:" + server.getPort() + path);
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestMethod(method);
+            return connection;
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+        }
+    }
+}